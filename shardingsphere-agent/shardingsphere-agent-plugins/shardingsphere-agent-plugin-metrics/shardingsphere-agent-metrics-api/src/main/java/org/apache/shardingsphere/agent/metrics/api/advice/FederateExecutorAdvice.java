@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Federate executor advice.
+ */
+public final class FederateExecutorAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String BORROW_STATEMENT = "borrowStatement";
+    
+    public static final String RESET_STATEMENT = "reset";
+    
+    static {
+        MetricsPool.create(MetricIds.FEDERATE_PREPARE_LATENCY_MILLIS);
+        MetricsPool.create(MetricIds.FEDERATE_EXECUTE_LATENCY_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (BORROW_STATEMENT.equals(method.getName())) {
+            target.setAttachment(System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (BORROW_STATEMENT.equals(method.getName()) && target.getAttachment() instanceof Long) {
+            long elapsedTime = System.currentTimeMillis() - (Long) target.getAttachment();
+            target.setAttachment(null);
+            MetricsPool.get(MetricIds.FEDERATE_PREPARE_LATENCY_MILLIS).ifPresent(optional -> optional.observe(elapsedTime));
+        } else if (RESET_STATEMENT.equals(method.getName()) && result.getResult() instanceof Long) {
+            MetricsPool.get(MetricIds.FEDERATE_EXECUTE_LATENCY_MILLIS).ifPresent(optional -> optional.observe((Long) result.getResult()));
+        }
+    }
+}
@@ -70,4 +70,16 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String MERGE_SPILL = "merge_spill_total";
+    
+    public static final String MERGE_SPILL_BYTES = "merge_spill_bytes_total";
+    
+    public static final String PROXY_PREPARED_STATEMENT_CACHE_HIT = "proxy_prepared_statement_cache_hit_total";
+    
+    public static final String PROXY_PREPARED_STATEMENT_CACHE_MISS = "proxy_prepared_statement_cache_miss_total";
+    
+    public static final String FEDERATE_PREPARE_LATENCY_MILLIS = "federate_prepare_latency_millis";
+    
+    public static final String FEDERATE_EXECUTE_LATENCY_MILLIS = "federate_execute_latency_millis";
 }
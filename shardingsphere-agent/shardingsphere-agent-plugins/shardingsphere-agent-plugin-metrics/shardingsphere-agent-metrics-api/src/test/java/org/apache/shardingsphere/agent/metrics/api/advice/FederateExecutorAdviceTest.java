@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FederateExecutorAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final FederateExecutorAdvice federateExecutorAdvice = new FederateExecutorAdvice();
+    
+    @Mock
+    private Method borrowStatement;
+    
+    @Mock
+    private Method reset;
+    
+    @Test
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    public void assertPrepareLatency() throws InterruptedException {
+        when(borrowStatement.getName()).thenReturn(FederateExecutorAdvice.BORROW_STATEMENT);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        federateExecutorAdvice.beforeMethod(targetObject, borrowStatement, new Object[]{}, new MethodInvocationResult());
+        Thread.sleep(50L);
+        federateExecutorAdvice.afterMethod(targetObject, borrowStatement, new Object[]{}, new MethodInvocationResult());
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.FEDERATE_PREPARE_LATENCY_MILLIS).get();
+        assertThat(wrapper.getFixtureValue(), org.hamcrest.Matchers.greaterThanOrEqualTo(50d));
+        assertNull(targetObject.getAttachment());
+    }
+    
+    @Test
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    public void assertExecuteLatency() {
+        when(reset.getName()).thenReturn(FederateExecutorAdvice.RESET_STATEMENT);
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(100L);
+        federateExecutorAdvice.afterMethod(new MockAdviceTargetObject(), reset, new Object[]{}, result);
+        FixtureWrapper wrapper = (FixtureWrapper) MetricsPool.get(MetricIds.FEDERATE_EXECUTE_LATENCY_MILLIS).get();
+        assertThat(wrapper.getFixtureValue(), is(100d));
+    }
+}
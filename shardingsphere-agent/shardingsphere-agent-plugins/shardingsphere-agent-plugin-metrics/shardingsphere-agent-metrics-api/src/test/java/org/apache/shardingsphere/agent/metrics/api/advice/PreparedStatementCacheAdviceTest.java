@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PreparedStatementCacheAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final PreparedStatementCacheAdvice preparedStatementCacheAdvice = new PreparedStatementCacheAdvice();
+    
+    @Mock
+    private Method borrow;
+    
+    @Test
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    public void assertMethod() {
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        MethodInvocationResult hitResult = new MethodInvocationResult();
+        hitResult.rebase(Optional.of(new Object()));
+        preparedStatementCacheAdvice.afterMethod(targetObject, borrow, new Object[]{}, hitResult);
+        MethodInvocationResult missResult = new MethodInvocationResult();
+        missResult.rebase(Optional.empty());
+        preparedStatementCacheAdvice.afterMethod(targetObject, borrow, new Object[]{}, missResult);
+        preparedStatementCacheAdvice.afterMethod(targetObject, borrow, new Object[]{}, missResult);
+        FixtureWrapper hitWrapper = (FixtureWrapper) MetricsPool.get(MetricIds.PROXY_PREPARED_STATEMENT_CACHE_HIT).get();
+        assertNotNull(hitWrapper);
+        assertThat(hitWrapper.getFixtureValue(), Matchers.is(1d));
+        FixtureWrapper missWrapper = (FixtureWrapper) MetricsPool.get(MetricIds.PROXY_PREPARED_STATEMENT_CACHE_MISS).get();
+        assertNotNull(missWrapper);
+        assertThat(missWrapper.getFixtureValue(), Matchers.is(2d));
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -29,6 +31,9 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ *
+ * <p>Packets split from a large payload take extra sequence IDs, so the following packets of the same channel are shifted by the extra count
+ * until the next packet is received from the peer.</p>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
@@ -36,6 +41,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     private static final int SEQUENCE_LENGTH = 1;
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf(MySQLPacketCodecEngine.class, "SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= PAYLOAD_LENGTH + SEQUENCE_LENGTH;
@@ -50,23 +59,58 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             return;
         }
         out.add(in.readRetainedSlice(SEQUENCE_LENGTH + payloadLength));
+        if (context.channel().hasAttr(SEQUENCE_ID_OFFSET)) {
+            context.channel().attr(SEQUENCE_ID_OFFSET).set(null);
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        out.writeZero(PAYLOAD_LENGTH + SEQUENCE_LENGTH);
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH);
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
+        }
+        int payloadLength = out.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH;
+        Attribute<Integer> sequenceIdOffset = context.channel().attr(SEQUENCE_ID_OFFSET);
+        int offset = null == sequenceIdOffset.get() ? 0 : sequenceIdOffset.get();
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + PAYLOAD_LENGTH, message.getSequenceId() + offset);
+        } else {
+            sequenceIdOffset.set(offset + splitLargePayload(out, headerIndex, payloadLength, message.getSequenceId() + offset));
+        }
+    }
+    
+    /**
+     * Split payload which is not less than 16 MB into several packets.
+     *
+     * <p>Every packet but the last one carries exactly 0xffffff bytes with increasing sequence ID,
+     * an empty packet is appended if the payload length is an exact multiple of 0xffffff.
+     * The count of extra sequence IDs taken by split packets is returned.</p>
+     */
+    private int splitLargePayload(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        ByteBuf largePayload = out.alloc().buffer(payloadLength);
+        try {
+            largePayload.writeBytes(out, headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH, payloadLength);
+            out.writerIndex(headerIndex);
+            int currentSequenceId = sequenceId;
+            int packetLength;
+            do {
+                packetLength = Math.min(MAX_PAYLOAD_LENGTH, largePayload.readableBytes());
+                out.writeMediumLE(packetLength);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(largePayload, packetLength);
+            } while (MAX_PAYLOAD_LENGTH == packetLength);
+            return currentSequenceId - sequenceId - 1;
         } finally {
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            largePayload.release();
         }
     }
     
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,8 +36,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,6 +66,7 @@ public final class MySQLPacketCodecEngineTest {
         when(byteBuf.readMediumLE()).thenReturn(50);
         when(byteBuf.readableBytes()).thenReturn(51);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out);
         assertThat(out.size(), is(1));
@@ -73,6 +77,7 @@ public final class MySQLPacketCodecEngineTest {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readableBytes()).thenReturn(1);
         when(byteBuf.readMediumLE()).thenReturn(0);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out);
         assertThat(out.size(), is(1));
@@ -89,18 +94,94 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readUnsignedMediumLE(), is(50));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+    }
+    
+    @Test
+    public void assertEncodeWithException() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(50);
+            throw new IllegalStateException("error");
+        }).when(actualMessage).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        int payloadLength = out.readUnsignedMediumLE();
+        assertThat(out.readableBytes(), is(payloadLength + 1));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readUnsignedByte(), is((short) MySQLErrPacket.HEADER));
+    }
+    
+    @Test
+    public void assertEncodeWithLargePayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xffffff + 10)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(0xffffff);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        assertThat(out.readableBytes(), is(10));
+    }
+    
+    @Test
+    public void assertEncodeWithExactMaxPayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xffffff)).when(actualMessage).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(0xffffff);
+        assertThat(out.readUnsignedMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        assertThat(out.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeAfterLargePayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        codecEngine.encode(context, mockPacket(1, 0xffffff + 10), Unpooled.buffer());
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, mockPacket(2, 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 3));
+    }
+    
+    @Test
+    public void assertEncodeAfterLargePayloadAndDecode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        codecEngine.encode(context, mockPacket(1, 0xffffff + 10), Unpooled.buffer());
+        codecEngine.decode(context, Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 0, 1}), new LinkedList<>());
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, mockPacket(1, 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+    }
+    
+    private MySQLPacket mockPacket(final int sequenceId, final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
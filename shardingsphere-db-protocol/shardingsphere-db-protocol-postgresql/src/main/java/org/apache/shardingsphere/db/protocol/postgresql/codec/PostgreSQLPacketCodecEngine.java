@@ -64,24 +64,26 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     @Override
     public void encode(final ChannelHandlerContext context, final PostgreSQLPacket message, final ByteBuf out) {
-        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        int headerLength = message instanceof PostgreSQLIdentifierPacket ? MESSAGE_TYPE_LENGTH + PAYLOAD_LENGTH : 0;
+        out.writeZero(headerLength);
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(out);
+        PostgreSQLPacket writtenPacket = message;
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(headerIndex + headerLength);
             // TODO consider what severity to use
             PostgreSQLErrorResponsePacket errorResponsePacket = PostgreSQLErrorResponsePacket.newBuilder(PostgreSQLMessageSeverityLevel.ERROR, PostgreSQLErrorCode.SYSTEM_ERROR, ex.getMessage())
                     .build();
             errorResponsePacket.write(payload);
-        } finally {
-            if (message instanceof PostgreSQLIdentifierPacket) {
-                out.writeByte(((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
-                out.writeInt(payload.getByteBuf().readableBytes() + PAYLOAD_LENGTH);
-            }
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            writtenPacket = errorResponsePacket;
+        }
+        if (0 != headerLength) {
+            out.setByte(headerIndex, ((PostgreSQLIdentifierPacket) writtenPacket).getIdentifier().getValue());
+            out.setInt(headerIndex + MESSAGE_TYPE_LENGTH, out.writerIndex() - headerIndex - MESSAGE_TYPE_LENGTH);
         }
     }
     
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  */
@@ -40,4 +43,36 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm, ShardingSpher
      * @return plaintext
      */
     Object decrypt(String ciphertext);
+    
+    /**
+     * Encode in batch.
+     *
+     * <p>Null plaintexts are kept as null in the same position and are not passed to {@link #encrypt(Object)}.</p>
+     *
+     * @param plaintexts plaintexts
+     * @return ciphertexts
+     */
+    default List<String> batchEncrypt(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decode in batch.
+     *
+     * <p>Null ciphertexts are kept as null in the same position and are not passed to {@link #decrypt(String)}.</p>
+     *
+     * @param ciphertexts ciphertexts
+     * @return plaintexts
+     */
+    default List<Object> batchDecrypt(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : decrypt(each));
+        }
+        return result;
+    }
 }
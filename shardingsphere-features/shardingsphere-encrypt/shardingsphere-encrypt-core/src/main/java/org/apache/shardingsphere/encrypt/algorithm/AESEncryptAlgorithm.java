@@ -25,32 +25,37 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES encrypt algorithm.
+ *
+ * <p>Initialized ciphers are cached per thread, because {@code Cipher.getInstance} and {@code Cipher.init} are too expensive to call for every value.</p>
  */
-@Getter
-@Setter
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String AES_KEY = "aes-key-value";
     
+    @Getter
+    @Setter
     private Properties props = new Properties();
     
-    private byte[] secretKey;
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
     
     @Override
     public void init() {
-        secretKey = createSecretKey();
+        byte[] secretKey = createSecretKey();
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKey));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKey));
     }
     
     private byte[] createSecretKey() {
@@ -59,31 +64,69 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     }
     
     @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final byte[] secretKey) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
+        return result;
+    }
+    
     @Override
     public String encrypt(final Object plaintext) {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plaintext).getBytes(StandardCharsets.UTF_8));
+        return encrypt(encryptCipher.get(), plaintext);
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plaintext) {
+        byte[] result = doFinal(encryptCipher, cipher, String.valueOf(plaintext).getBytes(StandardCharsets.UTF_8));
         return DatatypeConverter.printBase64Binary(result);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(DatatypeConverter.parseBase64Binary(ciphertext));
+        return decrypt(decryptCipher.get(), ciphertext);
+    }
+    
+    private Object decrypt(final Cipher cipher, final String ciphertext) {
+        byte[] result = doFinal(decryptCipher, cipher, DatatypeConverter.parseBase64Binary(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        Cipher cipher = encryptCipher.get();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : encrypt(cipher, each));
+        }
         return result;
     }
     
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : decrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] doFinal(final ThreadLocal<Cipher> cachedCipher, final Cipher cipher, final byte[] input) {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            // A failed doFinal may leave the cipher in an undefined state, so do not reuse it.
+            cachedCipher.remove();
+            throw ex;
+        }
+    }
+    
     @Override
     public String getType() {
         return "AES";
@@ -25,7 +25,6 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -35,13 +34,13 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String RC4_KEY = "rc4-key-value";
     
+    private static final String ZERO_KEY_COMPATIBLE = "rc4-zero-key-compatible";
+    
     private static final int SBOX_LENGTH = 256;
     
     private static final int KEY_MIN_LENGTH = 5;
     
-    private byte[] key = new byte[SBOX_LENGTH - 1];
-    
-    private int[] sBox = new int[SBOX_LENGTH];
+    private int[] initialSBox;
     
     @Getter
     @Setter
@@ -49,8 +48,9 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     @Override
     public void init() {
-        reset();
-        setKey(StringUtils.getBytesUtf8(props.getProperty(RC4_KEY)));
+        byte[] key = StringUtils.getBytesUtf8(props.getProperty(RC4_KEY));
+        checkKeyLength(key);
+        initialSBox = initSBox(isZeroKeyCompatible() ? new byte[key.length] : key);
     }
     
     @Override
@@ -58,7 +58,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = handle(StringUtils.getBytesUtf8(String.valueOf(plaintext)), key);
+        byte[] result = crypt(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -67,31 +67,28 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(ciphertext), key);
+        byte[] result = crypt(Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
-        return result;
-    }
-    
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
+    /**
+     * Whether to stay compatible with ciphertexts of earlier versions, which are encrypted with an all-zero key of the configured key length.
+     *
+     * @return zero key compatible or not
+     */
+    private boolean isZeroKeyCompatible() {
+        return Boolean.parseBoolean(props.getProperty(ZERO_KEY_COMPATIBLE, Boolean.TRUE.toString()));
     }
     
     /**
-     * Crypt given byte array. Be aware, that you must init key, before using.
+     * Crypt given byte array with a copy of the key scheduled SBOX.
+     *
      * @param message array to be crypt
      * @return byte array
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = initialSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -132,16 +129,15 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     }
     
     /**
-     * Set key.
+     * Check key length.
      *
-     * @param key key to be setup
+     * @param key key to be checked
      * @throws ShardingSphereException if key length is smaller than 5 or bigger than 255
      */
-    private void setKey(final byte[] key) throws ShardingSphereException {
+    private void checkKeyLength(final byte[] key) throws ShardingSphereException {
         if (!(key.length >= KEY_MIN_LENGTH && key.length < SBOX_LENGTH)) {
             throw new ShardingSphereException("Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
-        this.key = key;
     }
     
     @Override
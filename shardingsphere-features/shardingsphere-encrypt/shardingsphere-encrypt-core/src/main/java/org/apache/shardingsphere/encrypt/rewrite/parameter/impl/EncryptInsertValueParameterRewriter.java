@@ -25,8 +25,8 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -61,20 +61,28 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder,
                                      final InsertStatementContext insertStatementContext, final EncryptAlgorithm encryptAlgorithm, final String tableName, final String encryptLogicColumnName) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptLogicColumnName);
+        List<Integer> insertValueIndexes = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, tableName, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex),
-                            standardParameterBuilder, encryptLogicColumnName);
+                InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+                if (insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                    insertValueIndexes.add(count);
+                    originalValues.add(insertValueContext.getValue(columnIndex));
                 }
             }
             count++;
         }
+        List<String> cipherValues = encryptAlgorithm.batchEncrypt(originalValues);
+        for (int i = 0; i < insertValueIndexes.size(); i++) {
+            int insertValueIndex = insertValueIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(insertValueIndex).getParameterIndex(columnIndex);
+            Object originalValue = originalValues.get(i);
+            // batch encrypt skips null values, but the algorithm may still encrypt null itself
+            Object cipherValue = null == originalValue ? encryptAlgorithm.encrypt(null) : cipherValues.get(i);
+            encryptInsertValue(encryptAlgorithm, tableName, parameterIndex, originalValue, cipherValue, parameterBuilder.getParameterBuilders().get(insertValueIndex), encryptLogicColumnName);
+        }
     }
 
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -88,9 +96,9 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
         return columnNames.indexOf(encryptLogicColumnName);
     }
 
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final String tableName, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final String encryptLogicColumnName) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue));
+    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final String tableName, final int parameterIndex, final Object originalValue,
+                                    final Object cipherValue, final StandardParameterBuilder parameterBuilder, final String encryptLogicColumnName) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
         Collection<Object> addedParameters = new LinkedList<>();
         if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
             Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
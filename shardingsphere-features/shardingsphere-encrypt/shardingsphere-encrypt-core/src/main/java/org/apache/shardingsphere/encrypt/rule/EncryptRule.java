@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -145,7 +146,8 @@ public final class EncryptRule implements FeatureRule, SchemaRule, TableContaine
     public List<Object> getEncryptValues(final String logicTable, final String logicColumn, final List<Object> originalValues) {
         Optional<EncryptAlgorithm> encryptor = findEncryptor(logicTable, logicColumn);
         Preconditions.checkArgument(encryptor.isPresent(), "Can not find QueryAssistedEncryptAlgorithm by %s.%s.", logicTable, logicColumn);
-        return originalValues.stream().map(input -> null == input ? null : String.valueOf(encryptor.get().encrypt(input.toString()))).collect(Collectors.toList());
+        List<String> plaintexts = originalValues.stream().map(input -> null == input ? null : input.toString()).collect(Collectors.toList());
+        return new ArrayList<>(encryptor.get().batchEncrypt(plaintexts));
     }
     
     /**
@@ -25,9 +25,11 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -78,8 +80,46 @@ public final class RC4EncryptAlgorithmTest {
         assertNull(encryptAlgorithm.decrypt(null));
     }
     
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("qn36NQ==", null, "qn36NQ==")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("qn36NQ==", null, "qn36NQ==")), is(Arrays.<Object>asList("test", null, "test")));
+    }
+    
+    @Test
+    public void assertEncryptWithZeroKeyCompatible() {
+        assertThat(createEncryptAlgorithm("sharding-test", true).encrypt("test"), is("qn36NQ=="));
+    }
+    
+    @Test
+    public void assertEncryptWithConfiguredKey() {
+        EncryptAlgorithm actual = createEncryptAlgorithm("test-sharding", false);
+        String ciphertext = actual.encrypt("test");
+        assertThat(ciphertext, not("qn36NQ=="));
+        assertThat(ciphertext, not(createEncryptAlgorithm("sharding-test", false).encrypt("test")));
+        assertThat(actual.decrypt(ciphertext).toString(), is("test"));
+    }
+    
+    @Test
+    public void assertMigrateFromZeroKeyCompatible() {
+        EncryptAlgorithm actual = createEncryptAlgorithm("test-sharding", false);
+        String ciphertext = actual.encrypt(createEncryptAlgorithm("test-sharding", true).decrypt("qn36NQ=="));
+        assertThat(actual.decrypt(ciphertext).toString(), is("test"));
+    }
+    
     @Test
     public void assertGetProperties() {
         assertThat(encryptAlgorithm.getProps().getProperty("rc4-key-value"), is("test-sharding"));
     }
+    
+    private EncryptAlgorithm createEncryptAlgorithm(final String key, final boolean zeroKeyCompatible) {
+        Properties props = new Properties();
+        props.setProperty("rc4-key-value", key);
+        props.setProperty("rc4-zero-key-compatible", String.valueOf(zeroKeyCompatible));
+        return ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration("Rc4", props), EncryptAlgorithm.class);
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.spi;
+
+import org.apache.shardingsphere.encrypt.fixture.TestEncryptAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class EncryptAlgorithmTest {
+    
+    private final EncryptAlgorithm encryptAlgorithm = new TestEncryptAlgorithm();
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("foo", null, 1)), is(Arrays.asList("encryptValue", null, "encryptValue")));
+    }
+    
+    @Test
+    public void assertBatchEncryptWithEmptyPlaintexts() {
+        assertThat(encryptAlgorithm.batchEncrypt(Collections.emptyList()), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("foo", null, "bar")), is(Arrays.<Object>asList("decryptValue", null, "decryptValue")));
+    }
+}
@@ -23,8 +23,11 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -36,6 +39,9 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last generated key is kept in an atomic long and updated by compare and set, so concurrent generations do not block each other.
+ * Current time is read after last key in every attempt, so a key published by another thread between the two reads can not look like clock moving backwards.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -78,11 +84,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private volatile int sequenceOffset = -1;
     
-    private long lastMilliseconds;
+    private final AtomicLong lastKey = new AtomicLong(-1L);
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -118,25 +122,61 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        Collection<Comparable<?>> result = new ArrayList<>(1);
+        generateKeys(1, result);
+        return result.iterator().next();
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            generateKeys(count - result.size(), result);
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private void generateKeys(final int count, final Collection<Comparable<?>> result) {
+        while (true) {
+            long lastKey = this.lastKey.get();
+            long lastMilliseconds = getLastMilliseconds(lastKey);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            int nextSequenceOffset = sequenceOffset;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = (lastKey + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                nextSequenceOffset = vibrateSequenceOffset(nextSequenceOffset);
+                firstSequence = nextSequenceOffset;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (this.lastKey.compareAndSet(lastKey, createKey(currentMilliseconds, lastSequence))) {
+                sequenceOffset = nextSequenceOffset;
+                for (long i = firstSequence; i <= lastSequence; i++) {
+                    result.add(createKey(currentMilliseconds, i));
+                }
+                return;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getLastMilliseconds(final long lastKey) {
+        return lastKey < 0L ? 0L : (lastKey >>> TIMESTAMP_LEFT_SHIFT_BITS) + EPOCH;
+    }
+    
+    private long createKey(final long milliseconds, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -155,8 +195,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int sequenceOffset) {
+        return sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
     }
     
     @Override
@@ -27,7 +27,6 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingV
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
-import java.text.DecimalFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -99,8 +98,9 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int i = firstPartition; i <= lastPartition; i++) {
+            String tableNameSuffix = String.valueOf(i);
             for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i))) {
+                if (each.endsWith(tableNameSuffix)) {
                     result.add(each);
                 }
                 if (result.size() == availableTargetNames.size()) {
@@ -112,8 +112,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((float) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Float.parseFloat(position))), autoTablesAmount - 1);
+        double position = Math.rint((double) ((float) shardingValue / shardingSeconds) * 100) / 100;
+        return Math.min(Math.max(0, (int) Math.ceil(position)), autoTablesAmount - 1);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
@@ -125,7 +125,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private long parseDate(final Comparable<?> shardingValue) {
-        LocalDateTime dateValue = LocalDateTime.parse(shardingValue.toString(), DATE_TIME_FORMAT);
+        LocalDateTime dateValue = DateTimeShardingValueUtil.toLocalDateTime(shardingValue).orElseGet(() -> LocalDateTime.parse(shardingValue.toString(), DATE_TIME_FORMAT));
         return Duration.between(dateTimeLower, dateValue).toMillis() / 1000;
     }
     
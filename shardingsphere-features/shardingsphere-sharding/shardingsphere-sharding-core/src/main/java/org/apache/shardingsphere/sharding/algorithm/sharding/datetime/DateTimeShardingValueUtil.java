@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Date time sharding value util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DateTimeShardingValueUtil {
+    
+    /**
+     * Convert sharding value to local date time without formatting and parsing it as string.
+     *
+     * @param shardingValue sharding value
+     * @return local date time, empty if sharding value is not a date time value
+     */
+    public static Optional<LocalDateTime> toLocalDateTime(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof LocalDateTime) {
+            return Optional.of((LocalDateTime) shardingValue);
+        }
+        if (shardingValue instanceof Timestamp) {
+            return Optional.of(((Timestamp) shardingValue).toLocalDateTime());
+        }
+        if (shardingValue instanceof java.sql.Date) {
+            return Optional.of(((java.sql.Date) shardingValue).toLocalDate().atStartOfDay());
+        }
+        if (shardingValue instanceof Date && !(shardingValue instanceof Time)) {
+            return Optional.of(LocalDateTime.ofInstant(((Date) shardingValue).toInstant(), ZoneId.systemDefault()));
+        }
+        if (shardingValue instanceof LocalDate) {
+            return Optional.of(((LocalDate) shardingValue).atStartOfDay());
+        }
+        return Optional.empty();
+    }
+}
@@ -120,10 +120,13 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String tableNameSuffix = parseDateTime(shardingValue.getValue().toString()).format(tableSuffixPattern);
-        return availableTargetNames.stream()
-                .filter(each -> each.endsWith(tableNameSuffix))
-                .findFirst().orElse(null);
+        String tableNameSuffix = parseDateTime(shardingValue.getValue()).format(tableSuffixPattern);
+        for (String each : availableTargetNames) {
+            if (each.endsWith(tableNameSuffix)) {
+                return each;
+            }
+        }
+        return null;
     }
     
     @Override
@@ -133,24 +136,40 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         if (!hasStartTime && !hasEndTime) {
             return availableTargetNames;
         }
-        LocalDateTime startTime = hasStartTime ? parseDateTime(shardingValue.getValueRange().lowerEndpoint().toString()) : dateTimeLower;
-        LocalDateTime endTime = hasEndTime ? parseDateTime(shardingValue.getValueRange().upperEndpoint().toString()) : dateTimeUpper;
-        LocalDateTime calculateTime = startTime;
+        LocalDateTime startTime = hasStartTime ? parseDateTime(shardingValue.getValueRange().lowerEndpoint()) : dateTimeLower;
+        LocalDateTime endTime = hasEndTime ? parseDateTime(shardingValue.getValueRange().upperEndpoint()) : dateTimeUpper;
+        return getMatchedTables(getTableSuffixes(startTime, endTime), availableTargetNames);
+    }
+    
+    private LocalDateTime parseDateTime(final Comparable<?> value) {
+        return DateTimeShardingValueUtil.toLocalDateTime(value).orElseGet(() -> LocalDateTime.parse(value.toString().substring(0, dateTimePatternLength), dateTimeFormatter));
+    }
+    
+    private Set<String> getTableSuffixes(final LocalDateTime startTime, final LocalDateTime endTime) {
         Set<String> result = new HashSet<>();
-        while (!calculateTime.isAfter(endTime) || calculateTime.format(tableSuffixPattern).equals(endTime.format(tableSuffixPattern))) {
-            result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+        String endTableSuffix = endTime.format(tableSuffixPattern);
+        LocalDateTime calculateTime = startTime;
+        String tableSuffix = calculateTime.format(tableSuffixPattern);
+        while (!calculateTime.isAfter(endTime) || tableSuffix.equals(endTableSuffix)) {
+            result.add(tableSuffix);
             calculateTime = calculateTime.plus(stepAmount, stepUnit);
+            tableSuffix = calculateTime.format(tableSuffixPattern);
         }
         return result;
     }
     
-    private LocalDateTime parseDateTime(final String value) {
-        return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
-    }
-    
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+    private Collection<String> getMatchedTables(final Set<String> tableSuffixes, final Collection<String> availableTargetNames) {
+        Set<Integer> tableSuffixLengths = tableSuffixes.stream().map(String::length).collect(Collectors.toSet());
+        Set<String> result = new HashSet<>();
+        for (String each : availableTargetNames) {
+            for (int tableSuffixLength : tableSuffixLengths) {
+                if (each.length() >= tableSuffixLength && tableSuffixes.contains(each.substring(each.length() - tableSuffixLength))) {
+                    result.add(each);
+                    break;
+                }
+            }
+        }
+        return result;
     }
     
     @Override
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Compiles simple single variable inline expressions, such as {@code t_order_${order_id % 16}} or {@code ds_${user_id.hashCode() % 4}},
+ * into an immutable and thread-safe evaluator which has the same result as groovy closure without creating closure for every evaluation.
+ * Supported syntax in placeholder are variable, integer literal, parentheses, {@code +}, {@code -}, {@code *}, {@code %}, {@code hashCode()} and {@code abs()}.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private final List<Object> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with placeholder handled
+     * @return compiled inline expression, empty if expression cannot be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('\\' == each || '"' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                index++;
+                continue;
+            }
+            int stopIndex = inlineExpression.indexOf('}', index);
+            if (index + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(index + 1) || stopIndex < 0) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new NodeParser(inlineExpression.substring(index + 2, stopIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(node.get());
+            index = stopIndex + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variableName variable name
+     * @param variableValue variable value
+     * @return evaluated result, empty if variable is not supported by compiled inline expression
+     */
+    public Optional<String> evaluate(final String variableName, final Object variableValue) {
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof String) {
+                result.append((String) each);
+                continue;
+            }
+            Object value = ((Node) each).evaluate(variableName, normalize(variableValue));
+            if (!isRenderable(value)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static Object normalize(final Object value) {
+        return value instanceof Short || value instanceof Byte ? Integer.valueOf(((Number) value).intValue()) : value;
+    }
+    
+    private static boolean isRenderable(final Object value) {
+        return isIntegral(value) || value instanceof String;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param variableName variable name
+         * @param variableValue variable value
+         * @return evaluated value, null if cannot evaluate without groovy
+         */
+        Object evaluate(String variableName, Object variableValue);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            return name.equals(variableName) ? variableValue : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MethodNode implements Node {
+        
+        private final Node target;
+        
+        private final String methodName;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object value = target.evaluate(variableName, variableValue);
+            if (null == value) {
+                return null;
+            }
+            if ("hashCode".equals(methodName)) {
+                return value.hashCode();
+            }
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            return value instanceof Long ? Math.abs((Long) value) : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object value = operand.evaluate(variableName, variableValue);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            return value instanceof Long ? -(Long) value : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        private final char operator;
+        
+        @Override
+        public Object evaluate(final String variableName, final Object variableValue) {
+            Object leftValue = left.evaluate(variableName, variableValue);
+            Object rightValue = right.evaluate(variableName, variableValue);
+            if (!isRenderable(leftValue) || !isRenderable(rightValue)) {
+                return null;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return leftValue.toString() + rightValue;
+            }
+            if (!isIntegral(leftValue) || !isIntegral(rightValue)) {
+                return null;
+            }
+            if (leftValue instanceof Long || rightValue instanceof Long) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return calculate((int) leftValue, (int) rightValue);
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private int calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NodeParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result && (isNext('+') || isNext('-'))) {
+                char operator = expression.charAt(position++);
+                Node right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(result, right, operator);
+            }
+            return result;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (null != result && (isNext('*') || isNext('%'))) {
+                char operator = expression.charAt(position++);
+                Node right = parseUnary();
+                result = null == right ? null : new BinaryNode(result, right, operator);
+            }
+            return result;
+        }
+        
+        private Node parseUnary() {
+            if (isNext('-')) {
+                position++;
+                Node operand = parseUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            Node result = parsePrimary();
+            while (null != result && isNext('.')) {
+                position++;
+                String methodName = parseIdentifier();
+                if (!("hashCode".equals(methodName) || "abs".equals(methodName)) || !isNext('(')) {
+                    return null;
+                }
+                position++;
+                if (!isNext(')')) {
+                    return null;
+                }
+                position++;
+                result = new MethodNode(result, methodName);
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            if (isNext('(')) {
+                position++;
+                Node result = parseAdditive();
+                if (null == result || !isNext(')')) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                return parseNumber();
+            }
+            String identifier = parseIdentifier();
+            return null == identifier ? null : new VariableNode(identifier);
+        }
+        
+        private Node parseNumber() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String literal = expression.substring(startIndex, position);
+            if (position < expression.length() && ('L' == expression.charAt(position) || 'l' == expression.charAt(position))) {
+                position++;
+                return literal.length() > 18 ? null : new LiteralNode(Long.parseLong(literal));
+            }
+            if (position < expression.length() && Character.isLetter(expression.charAt(position)) || literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18) {
+                return null;
+            }
+            long value = Long.parseLong(literal);
+            return new LiteralNode(value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int startIndex = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            if (startIndex == position || Character.isDigit(expression.charAt(startIndex))) {
+                return null;
+            }
+            return expression.substring(startIndex, position);
+        }
+        
+        private boolean isNext(final char expected) {
+            skipWhitespace();
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
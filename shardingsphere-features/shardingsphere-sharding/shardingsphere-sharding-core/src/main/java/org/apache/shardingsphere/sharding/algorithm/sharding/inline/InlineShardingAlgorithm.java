@@ -27,6 +27,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -40,6 +41,8 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private CompiledInlineExpression compiledExpression;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -47,13 +50,17 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void init() {
         allowRangeQuery = isAllowRangeQuery();
+        compiledExpression = CompiledInlineExpression.compile(getAlgorithmExpression()).orElse(null);
     }
     
-    private Closure<?> createClosure() {
+    private String getAlgorithmExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        return InlineExpressionParser.handlePlaceHolder(expression.trim());
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = new InlineExpressionParser(getAlgorithmExpression()).evaluateClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         return result;
     }
@@ -64,6 +71,12 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
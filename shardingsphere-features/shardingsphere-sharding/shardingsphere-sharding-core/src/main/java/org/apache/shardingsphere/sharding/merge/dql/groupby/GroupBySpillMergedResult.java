@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.spill.SpillFile;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Memory bounded merged result for group by.
+ *
+ * <p>
+ * Groups are aggregated in memory until the max memory groups is reached, then rows of new groups are hashed into partitions and spilled to local temporary files.
+ * Every partition is aggregated again one by one with the same memory bound and saved as a sorted run file, all sorted runs are merged by stream at last.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final List<Boolean> valueCaseSensitive;
+    
+    private final int maxMemoryGroups;
+    
+    private final int spillDepth;
+    
+    private final int columnCount;
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private SortedRun currentSortedRun;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryGroups) throws SQLException {
+        this(queryResults, selectStatementContext, new GroupByMemoryAggregator(selectStatementContext).getValueCaseSensitive(queryResults.get(0), schema), maxMemoryGroups, 0);
+    }
+    
+    private GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final List<Boolean> valueCaseSensitive, final int maxMemoryGroups, final int spillDepth) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.valueCaseSensitive = valueCaseSensitive;
+        this.maxMemoryGroups = maxMemoryGroups;
+        this.spillDepth = spillDepth;
+        columnCount = queryResults.get(0).getMetaData().getColumnCount();
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            init(queryResults);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByMemoryAggregator aggregator = new GroupByMemoryAggregator(selectStatementContext);
+        SpillFile[] partitions = new SpillFile[PARTITION_COUNT];
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (spillDepth >= MAX_SPILL_DEPTH || aggregator.size() < maxMemoryGroups || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                } else {
+                    spill(partitions, groupByValue, each);
+                }
+            }
+        }
+        addSortedRun(new MemorySortedRun(aggregator.getSortedRows(valueCaseSensitive).iterator()));
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                finishPartitionWrite(each);
+                addSortedRun(createFileSortedRun(each, queryResults.get(0).getMetaData()));
+            }
+        }
+    }
+    
+    private void finishPartitionWrite(final SpillFile partition) throws IOException {
+        if (0 == spillDepth) {
+            partition.finishWrite();
+        } else {
+            partition.finishRewrite();
+        }
+    }
+    
+    private void spill(final SpillFile[] partitions, final GroupByValue groupByValue, final QueryResult queryResult) throws SQLException, IOException {
+        int partitionIndex = getPartitionIndex(groupByValue);
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = SpillFile.create();
+        }
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue) {
+        int hashCode = groupByValue.hashCode();
+        hashCode = (hashCode ^ hashCode >>> 16) * 0x9E3779B9;
+        return (hashCode >>> (spillDepth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private SortedRun createFileSortedRun(final SpillFile partition, final QueryResultMetaData metaData) throws SQLException, IOException {
+        GroupBySpillMergedResult partitionMergedResult;
+        try {
+            partitionMergedResult = new GroupBySpillMergedResult(
+                    Collections.singletonList(new SpillFileQueryResult(partition, metaData)), selectStatementContext, valueCaseSensitive, maxMemoryGroups, spillDepth + 1);
+        } finally {
+            partition.delete();
+        }
+        SpillFile result = SpillFile.create();
+        while (partitionMergedResult.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = partitionMergedResult.getValue(i + 1, Object.class);
+            }
+            result.write(row);
+        }
+        result.finishRewrite();
+        return new FileSortedRun(result);
+    }
+    
+    private void addSortedRun(final SortedRun sortedRun) throws SQLException {
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != currentSortedRun) {
+            addSortedRun(currentSortedRun);
+        }
+        currentSortedRun = sortedRuns.poll();
+        return null != currentSortedRun;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentSortedRun.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentSortedRun.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private interface SortedRun {
+        
+        boolean next() throws SQLException;
+        
+        MemoryQueryResultRow getCurrentRow();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MemorySortedRun implements SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        @Override
+        public boolean next() {
+            currentRow = rows.hasNext() ? rows.next() : null;
+            return null != currentRow;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FileSortedRun implements SortedRun {
+        
+        private final SpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        @Override
+        public boolean next() throws SQLException {
+            Object[] row;
+            try {
+                row = spillFile.read();
+            } catch (final IOException ex) {
+                spillFile.delete();
+                throw new SQLException(ex);
+            }
+            if (null == row) {
+                spillFile.delete();
+                currentRow = null;
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillFileQueryResult implements QueryResult {
+        
+        private final SpillFile spillFile;
+        
+        @Getter
+        private final QueryResultMetaData metaData;
+        
+        private Object[] currentRow;
+        
+        @Override
+        public boolean next() throws SQLException {
+            try {
+                currentRow = spillFile.read();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+            return null != currentRow;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+            throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return null == currentRow;
+        }
+        
+        @Override
+        public void close() {
+            spillFile.delete();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ *
+ * <p>
+ * Every next only replays the matches on the path from the winner's leaf to the root,
+ * so it needs {@code log(n)} comparisons without poll and offer of priority queue.
+ * </p>
+ */
+public final class LoserTreeOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private static final int MIN_LEAF = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private boolean isFirstNext;
+    
+    public LoserTreeOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        leaves = new OrderByValue[queryResults.size()];
+        exhausted = new boolean[queryResults.size()];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = new OrderByValue(queryResults.get(i), orderByItems, selectStatementContext, schema);
+            exhausted[i] = !leaves[i].next();
+        }
+        tree = new int[leaves.length];
+        Arrays.fill(tree, MIN_LEAF);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+        setCurrentQueryResult(exhausted[tree[0]] ? queryResults.get(0) : leaves[tree[0]].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private void adjust(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (leafIndex + leaves.length) / 2; parent > 0; parent /= 2) {
+            if (isWinner(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isWinner(final int leafIndex, final int otherLeafIndex) {
+        if (MIN_LEAF == leafIndex) {
+            return true;
+        }
+        if (MIN_LEAF == otherLeafIndex || exhausted[leafIndex]) {
+            return false;
+        }
+        return exhausted[otherLeafIndex] || leaves[leafIndex].compareTo(leaves[otherLeafIndex]) < 0;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (exhausted[winner]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        exhausted[winner] = !leaves[winner].next();
+        adjust(winner);
+        if (exhausted[tree[0]]) {
+            return false;
+        }
+        setCurrentQueryResult(leaves[tree[0]].getQueryResult());
+        return true;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -32,8 +33,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -49,13 +50,32 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] integralOrderValues;
+    
+    private final boolean[] integralOrderValueFlags;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullOrderDirections[index] = each.getSegment().getNullOrderDirection();
+            index++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
+        integralOrderValues = new long[orderByItems.size()];
+        integralOrderValueFlags = new boolean[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +119,48 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+            Arrays.fill(integralOrderValueFlags, false);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int index = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            integralOrderValueFlags[index] = isIntegral(value);
+            if (integralOrderValueFlags[index]) {
+                integralOrderValues[index] = ((Number) value).longValue();
+            }
+            orderValues[index] = value instanceof String && !orderValuesCaseSensitive.get(index) ? ((String) value).toUpperCase() : (Comparable<?>) value;
+            index++;
         }
-        return result;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = integralOrderValueFlags[i] && o.integralOrderValueFlags[i]
+                    ? compareIntegral(integralOrderValues[i], o.integralOrderValues[i], orderDirections[i])
+                    : CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareIntegral(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
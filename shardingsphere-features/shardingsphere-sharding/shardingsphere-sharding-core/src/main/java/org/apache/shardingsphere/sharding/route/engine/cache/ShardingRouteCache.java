@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * Sharding route cache.
+ * 
+ * <p>Route cache lives with the sharding rule, so it is discarded together with the rule when rule configurations changed.
+ * Maximum size follows the configured property, the cache is resized when the property changed.</p>
+ */
+public final class ShardingRouteCache {
+    
+    private volatile Cache<ShardingRouteCacheKey, Collection<DataNode>> cache;
+    
+    private volatile int maximumSize;
+    
+    /**
+     * Get routed data nodes from cache, route and cache them if absent.
+     * 
+     * @param key sharding route cache key
+     * @param maximumSize maximum size of cache
+     * @param router router for data nodes
+     * @return routed data nodes
+     */
+    public Collection<DataNode> get(final ShardingRouteCacheKey key, final int maximumSize, final Supplier<Collection<DataNode>> router) {
+        return getCache(maximumSize).get(key, unused -> Collections.unmodifiableList(new ArrayList<>(router.get())));
+    }
+    
+    /**
+     * Get cached size.
+     * 
+     * @return cached size
+     */
+    public long size() {
+        Cache<ShardingRouteCacheKey, Collection<DataNode>> result = cache;
+        if (null == result) {
+            return 0L;
+        }
+        result.cleanUp();
+        return result.estimatedSize();
+    }
+    
+    private Cache<ShardingRouteCacheKey, Collection<DataNode>> getCache(final int maximumSize) {
+        Cache<ShardingRouteCacheKey, Collection<DataNode>> result = cache;
+        if (null == result || this.maximumSize != maximumSize) {
+            synchronized (this) {
+                result = cache;
+                if (null == result) {
+                    result = Caffeine.newBuilder().maximumSize(maximumSize).build();
+                    cache = result;
+                } else if (this.maximumSize != maximumSize) {
+                    result.policy().eviction().ifPresent(each -> each.setMaximum(maximumSize));
+                }
+                this.maximumSize = maximumSize;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding route cache key.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class ShardingRouteCacheKey {
+    
+    private final String logicTableName;
+    
+    private final List<ShardingValueKey> databaseShardingValues;
+    
+    private final List<ShardingValueKey> tableShardingValues;
+    
+    /**
+     * Create new instance of sharding route cache key.
+     * 
+     * <p>Only list sharding condition values are cacheable, range values are too diverse to be hit again.</p>
+     * 
+     * @param logicTableName logic table name
+     * @param databaseShardingValues database sharding condition values
+     * @param tableShardingValues table sharding condition values
+     * @return sharding route cache key, empty if sharding condition values are not cacheable
+     */
+    public static Optional<ShardingRouteCacheKey> newInstance(final String logicTableName, 
+                                                              final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues) {
+        Optional<List<ShardingValueKey>> databaseValueKeys = createShardingValueKeys(databaseShardingValues);
+        if (!databaseValueKeys.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<List<ShardingValueKey>> tableValueKeys = createShardingValueKeys(tableShardingValues);
+        return tableValueKeys.map(optional -> new ShardingRouteCacheKey(logicTableName, databaseValueKeys.get(), optional));
+    }
+    
+    private static Optional<List<ShardingValueKey>> createShardingValueKeys(final List<ShardingConditionValue> shardingConditionValues) {
+        List<ShardingValueKey> result = new ArrayList<>(shardingConditionValues.size());
+        for (ShardingConditionValue each : shardingConditionValues) {
+            if (!(each instanceof ListShardingConditionValue)) {
+                return Optional.empty();
+            }
+            result.add(new ShardingValueKey(each.getColumnName(), new ArrayList<Comparable<?>>(((ListShardingConditionValue<?>) each).getValues())));
+        }
+        return Optional.of(result);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ShardingValueKey {
+        
+        private final String columnName;
+        
+        private final Collection<Comparable<?>> values;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
@@ -49,6 +51,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Sharding standard routing engine.
@@ -113,9 +116,9 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, 
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            List<ShardingConditionValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each);
+            List<ShardingConditionValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each);
+            Collection<DataNode> dataNodes = routeWithCache(shardingRule, tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
@@ -187,6 +190,15 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Collection<DataNode> routeWithCache(final ShardingRule shardingRule, final TableRule tableRule, 
+                                                final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues, 
+                                                final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        int routeCacheSize = properties.<Integer>getValue(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_SIZE);
+        Optional<ShardingRouteCacheKey> routeCacheKey = routeCacheSize > 0 ? ShardingRouteCacheKey.newInstance(logicTableName, databaseShardingValues, tableShardingValues) : Optional.empty();
+        Supplier<Collection<DataNode>> router = () -> route0(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
+        return routeCacheKey.isPresent() ? shardingRule.getRouteCache().get(routeCacheKey.get(), routeCacheSize, router) : router.get();
+    }
+    
     private Collection<DataNode> route0(final TableRule tableRule, 
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues, 
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
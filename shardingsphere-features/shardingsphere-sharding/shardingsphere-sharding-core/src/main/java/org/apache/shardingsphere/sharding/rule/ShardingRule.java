@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -41,12 +42,14 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.engine.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -77,8 +80,14 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final Map<String, TableRule> tableRules = new LinkedHashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
     private final Collection<BindingTableRule> bindingTableRules;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
     private final Collection<String> broadcastTables;
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -89,6 +98,8 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
 
     private final String defaultShardingColumn;
     
+    private final ShardingRouteCache routeCache = new ShardingRouteCache();
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
@@ -97,7 +108,9 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         tableRules.putAll(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.putAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
         broadcastTables = createBroadcastTables(config.getBroadcastTables());
+        actualTableRules = createActualTableRules();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
@@ -113,7 +126,9 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         tableRules.putAll(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.putAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
         broadcastTables = createBroadcastTables(config.getBroadcastTables());
+        actualTableRules = createActualTableRules();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
@@ -172,6 +187,14 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return result;
     }
     
+    private Map<String, TableRule> createActualTableRules() {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            each.getActualDataNodes().forEach(dataNode -> result.putIfAbsent(dataNode.getTableName(), each));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -184,6 +207,14 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return result;
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            each.getTableRules().keySet().forEach(logicTable -> result.putIfAbsent(logicTable, each));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     @Override
     public Collection<String> getAllTables() {
         Collection<String> result = new HashSet<>(getTables());
@@ -229,7 +260,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return Optional.ofNullable(actualTableRules.get(actualTableName));
     }
     
     /**
@@ -279,7 +310,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -329,11 +360,16 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return whether all tables are in same data source or not
      */
     public boolean isAllTablesInSameDataSource(final Collection<String> logicTableNames) {
-        Collection<String> tableNames = new HashSet<>(logicTableNames);
         Collection<String> dataSourceNames = new HashSet<>();
-        dataSourceNames.addAll(tableRules.values().stream().filter(each -> tableNames.contains(each.getLogicTable())).flatMap(each 
-            -> each.getActualDataNodes().stream()).map(DataNode::getDataSourceName).collect(Collectors.toSet()));
-        dataSourceNames.addAll(broadcastTables.stream().filter(tableNames::contains).flatMap(each -> getDataSourceNames().stream()).collect(Collectors.toSet()));
+        for (String each : new HashSet<>(logicTableNames)) {
+            TableRule tableRule = tableRules.get(each);
+            if (null != tableRule) {
+                dataSourceNames.addAll(tableRule.getActualDatasourceNames());
+            }
+            if (broadcastTables.contains(each)) {
+                dataSourceNames.addAll(getDataSourceNames());
+            }
+        }
         return 1 == dataSourceNames.size();
     }
     
@@ -407,12 +443,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -471,7 +521,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     @Override
     public Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
+        return actualTableRules.keySet();
     }
     
     @Override
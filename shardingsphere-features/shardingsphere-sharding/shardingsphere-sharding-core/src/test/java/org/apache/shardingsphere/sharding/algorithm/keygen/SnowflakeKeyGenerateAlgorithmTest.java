@@ -19,11 +19,13 @@ package org.apache.shardingsphere.sharding.algorithm.keygen;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.InterleavedTimeService;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -32,6 +34,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -72,6 +76,47 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        assertThat(keyGenerateAlgorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(keyGenerateAlgorithm.generateKeys(2), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        setLastKey(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(keyGenerateAlgorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> keyGenerateAlgorithm.generateKeys(1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
     @Test
     public void assertLastDigitalOfGenerateKeySameMillisecond() {
         SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
@@ -118,7 +163,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProps(new Properties());
         keyGenerateAlgorithm.init();
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        setLastKey(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -136,7 +181,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
         keyGenerateAlgorithm.setProps(props);
         keyGenerateAlgorithm.init();
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        setLastKey(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerateAlgorithm.generateKey());
@@ -144,6 +189,19 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual.size(), not(10));
     }
     
+    @Test
+    public void assertGenerateKeyWithKeyPublishedDuringClockRead() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
+        keyGenerateAlgorithm.setProps(props);
+        keyGenerateAlgorithm.init();
+        InterleavedTimeService timeService = new InterleavedTimeService(keyGenerateAlgorithm);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        assertThat((Long) keyGenerateAlgorithm.generateKey(), is(4194305L));
+        assertThat((Long) timeService.getInterleavedKey(), is(4194304L));
+    }
+    
     @Test
     public void assertGenerateKeyBeyondMaxSequencePerMilliSecond() {
         SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
@@ -151,8 +209,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
         keyGenerateAlgorithm.setProps(new Properties());
         keyGenerateAlgorithm.init();
-        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
-        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1);
+        setLastKey(keyGenerateAlgorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -162,17 +219,10 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
-    }
-    
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    private void setLastKey(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long lastMilliseconds, final long sequence) {
+        Field lastKey = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastKey");
+        lastKey.setAccessible(true);
+        ((AtomicLong) lastKey.get(keyGenerateAlgorithm)).set(((lastMilliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) << 22L) | sequence);
     }
     
     @Test(expected = IllegalArgumentException.class)
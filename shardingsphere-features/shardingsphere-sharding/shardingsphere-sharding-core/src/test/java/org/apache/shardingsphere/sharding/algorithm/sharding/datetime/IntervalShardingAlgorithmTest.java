@@ -23,6 +23,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
@@ -118,6 +120,23 @@ public final class IntervalShardingAlgorithmTest {
         assertNull(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, new PreciseShardingValue<>("t_order", "create_time", "2030-01-01 00:00:01")));
     }
     
+    @Test
+    public void assertPreciseDoShardingByMonthWithDateTimeValues() {
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", LocalDateTime.of(2020, 1, 1, 0, 0, 1))), is("t_order_202001"));
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", Timestamp.valueOf("2020-02-01 00:00:01"))), is("t_order_202002"));
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", Date.valueOf("2020-03-01"))), is("t_order_202003"));
+    }
+    
+    @Test
+    public void assertRangeDoShardingByMonthWithDateTimeValues() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, 
+                new RangeShardingValue<>("t_order", "create_time", Range.closed(Timestamp.valueOf("2019-10-15 10:59:08"), Timestamp.valueOf("2020-04-08 10:59:08"))));
+        assertThat(actual.size(), is(7));
+    }
+    
     @Test
     public void assertRangeDoShardingByMonth() {
         Collection<String> actual = shardingAlgorithmByMonth.doSharding(
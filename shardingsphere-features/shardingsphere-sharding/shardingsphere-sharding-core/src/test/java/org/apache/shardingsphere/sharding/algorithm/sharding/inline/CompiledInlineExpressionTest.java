@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${order_id % 16}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_id", 35), is(Optional.of("t_order_3")));
+        assertThat(actual.get().evaluate("order_id", 35L), is(Optional.of("t_order_3")));
+        assertThat(actual.get().evaluate("order_id", (short) 35), is(Optional.of("t_order_3")));
+    }
+    
+    @Test
+    public void assertEvaluateWithHashCode() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("ds_${Math.abs(user_id.hashCode()) % 4}");
+        assertFalse(actual.isPresent());
+        actual = CompiledInlineExpression.compile("ds_${user_id.hashCode().abs() % 4}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("user_id", "foo"), is(Optional.of("ds_" + Math.abs("foo".hashCode()) % 4)));
+        assertThat(actual.get().evaluate("user_id", 10000000000L), is(Optional.of("ds_" + Math.abs(Long.hashCode(10000000000L)) % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateWithArithmeticAndConcatenation() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_${(order_id + 1) * 2 - 3}_${'x'}");
+        assertFalse(actual.isPresent());
+        actual = CompiledInlineExpression.compile("t_${(order_id + 1) * 2 - 3}_${order_id + 1}_${-order_id}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_id", 5), is(Optional.of("t_9_6_-5")));
+        assertThat(actual.get().evaluate("order_id", "5"), is(Optional.empty()));
+    }
+    
+    @Test
+    public void assertEvaluateWithIntegerOverflow() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_${order_id * 2}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("order_id", Integer.MAX_VALUE), is(Optional.of("t_" + Integer.MAX_VALUE * 2)));
+        assertThat(actual.get().evaluate("order_id", (long) Integer.MAX_VALUE), is(Optional.of("t_" + (long) Integer.MAX_VALUE * 2)));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = CompiledInlineExpression.compile("t_order_${order_id % 16}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate("user_id", 1), is(Optional.empty()));
+        assertThat(actual.get().evaluate("order_id", 1.5D), is(Optional.empty()));
+        assertThat(actual.get().evaluate("order_id", null), is(Optional.empty()));
+    }
+    
+    @Test
+    public void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 16}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.toString()}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+    }
+}
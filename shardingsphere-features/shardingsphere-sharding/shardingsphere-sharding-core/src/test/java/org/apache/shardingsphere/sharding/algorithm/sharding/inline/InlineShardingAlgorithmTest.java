@@ -23,6 +23,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -76,4 +77,24 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
+    
+    @Test
+    public void assertDoShardingWithCompiledExpression() {
+        InlineShardingAlgorithm shardingAlgorithm = createInlineShardingAlgorithm("ds_${user_id.hashCode() % 4}");
+        assertThat(shardingAlgorithm.doSharding(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3"), new PreciseShardingValue<>("t_order", "user_id", 10L)), is("ds_2"));
+    }
+    
+    @Test
+    public void assertDoShardingWithGroovyFallback() {
+        InlineShardingAlgorithm shardingAlgorithm = createInlineShardingAlgorithm("t_order_${order_id.intdiv(10)}");
+        assertThat(shardingAlgorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", 15)), is("t_order_1"));
+        assertThat(inlineShardingAlgorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", new BigInteger("5"))), is("t_order_1"));
+    }
+    
+    private InlineShardingAlgorithm createInlineShardingAlgorithm(final String algorithmExpression) {
+        InlineShardingAlgorithm result = new InlineShardingAlgorithm();
+        result.getProps().setProperty("algorithm-expression", algorithmExpression);
+        result.init();
+        return result;
+    }
 }
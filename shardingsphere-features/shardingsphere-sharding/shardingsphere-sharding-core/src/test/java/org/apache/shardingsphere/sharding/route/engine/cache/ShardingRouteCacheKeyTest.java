@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingRouteCacheKeyTest {
+    
+    @Test
+    public void assertNewInstanceWithSameListValues() {
+        ShardingConditionValue orderValue = new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(1L, 2L));
+        ShardingConditionValue orderItemValue = new ListShardingConditionValue<>("order_id", "t_order_item", new LinkedHashSet<>(Arrays.asList(1L, 2L)));
+        assertThat(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(orderValue)).get(),
+                is(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(orderItemValue)).get()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDifferentListValues() {
+        ShardingConditionValue value = new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(1L));
+        ShardingConditionValue otherValue = new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(2L));
+        assertThat(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(value)).get(),
+                not(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(otherValue)).get()));
+        assertThat(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(value)).get(),
+                not(ShardingRouteCacheKey.newInstance("t_order", Collections.singletonList(value), Collections.emptyList()).get()));
+    }
+    
+    @Test
+    public void assertNewInstanceWithRangeValue() {
+        ShardingConditionValue value = new RangeShardingConditionValue<>("order_id", "t_order", Range.closed(1L, 2L));
+        assertFalse(ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(), Collections.singletonList(value)).isPresent());
+    }
+}
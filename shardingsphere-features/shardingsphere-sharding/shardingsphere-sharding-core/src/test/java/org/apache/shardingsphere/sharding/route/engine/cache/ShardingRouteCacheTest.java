@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.cache;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingRouteCacheTest {
+    
+    @Test
+    public void assertGetCachedDataNodes() {
+        ShardingRouteCache routeCache = new ShardingRouteCache();
+        AtomicInteger routeCount = new AtomicInteger();
+        Collection<DataNode> expected = Collections.singletonList(new DataNode("ds_0.t_order_0"));
+        assertThat(routeCache.get(createKey(1L), 10, () -> route(routeCount, expected)), is(expected));
+        assertThat(routeCache.get(createKey(1L), 10, () -> route(routeCount, expected)), is(expected));
+        assertThat(routeCount.get(), is(1));
+        assertThat(routeCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithChangedMaximumSize() {
+        ShardingRouteCache routeCache = new ShardingRouteCache();
+        Collection<DataNode> dataNodes = Collections.singletonList(new DataNode("ds_0.t_order_0"));
+        for (long i = 0; i < 3; i++) {
+            routeCache.get(createKey(i), 3, () -> dataNodes);
+        }
+        assertThat(routeCache.size(), is(3L));
+        routeCache.get(createKey(0L), 1, () -> dataNodes);
+        assertThat(routeCache.size(), is(1L));
+    }
+    
+    private Collection<DataNode> route(final AtomicInteger routeCount, final Collection<DataNode> dataNodes) {
+        routeCount.incrementAndGet();
+        return dataNodes;
+    }
+    
+    private ShardingRouteCacheKey createKey(final long value) {
+        return ShardingRouteCacheKey.newInstance("t_order", Collections.emptyList(),
+                Collections.singletonList(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(value)))).get();
+    }
+}
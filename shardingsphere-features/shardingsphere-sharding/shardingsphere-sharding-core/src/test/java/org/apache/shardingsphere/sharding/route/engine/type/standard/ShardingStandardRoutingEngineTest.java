@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Test;
 
@@ -184,6 +186,23 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithRouteCache() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SHARDING_ROUTE_CACHE_SIZE.getKey(), "16");
+        ShardingRule shardingRule = createBasedShardingRule();
+        for (int i = 0; i < 2; i++) {
+            RouteContext routeContext = new RouteContext();
+            new ShardingStandardRoutingEngine("t_order", createShardingConditions("t_order"), new ConfigurationProperties(props)).route(routeContext, shardingRule);
+            List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+            assertThat(routeUnits.size(), is(1));
+            assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+            assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+            assertThat(routeContext.getOriginalDataNodes().size(), is(1));
+        }
+        assertThat(shardingRule.getRouteCache().size(), is(1L));
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, new ConfigurationProperties(new Properties()));
     }
@@ -35,6 +35,7 @@ import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
@@ -305,6 +306,29 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().getTables(), is(new LinkedHashSet<>(Arrays.asList("logic_table", "sub_logic_table"))));
     }
     
+    @Test
+    public void assertGetAllActualTables() {
+        assertThat(createMaximumShardingRule().getAllActualTables(),
+                is(new HashSet<>(Arrays.asList("table_0", "table_1", "table_2", "sub_table_0", "sub_table_1", "sub_table_2"))));
+    }
+    
+    @Test
+    public void assertFindTableRuleByActualTableWithBindingTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertThat(actual.findTableRuleByActualTable("sub_table_1").get().getLogicTable(), is("sub_logic_table"));
+        assertThat(actual.findBindingTableRule("SUB_LOGIC_TABLE").get(), is(actual.findBindingTableRule("logic_table").get()));
+    }
+    
+    @Test
+    public void assertIsAllTablesInSameDataSource() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_0.table_${0..2}"));
+        shardingRuleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}"));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceMap());
+        assertTrue(actual.isAllTablesInSameDataSource(Collections.singleton("logic_table")));
+        assertFalse(actual.isAllTablesInSameDataSource(Arrays.asList("logic_table", "sub_logic_table")));
+    }
+    
     @Test
     public void assertGetDataSourceNamesWithShardingAutoTables() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
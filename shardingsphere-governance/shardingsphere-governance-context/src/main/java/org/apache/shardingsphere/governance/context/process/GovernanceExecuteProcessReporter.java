@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.governance.context.process;
 
+import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessCleanReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
@@ -50,4 +51,9 @@ public final class GovernanceExecuteProcessReporter implements ExecuteProcessRep
     public void report(final String executionID, final ExecuteProcessConstants constants) {
         ShardingSphereEventBus.getInstance().post(new ExecuteProcessReportEvent(executionID));
     }
+    
+    @Override
+    public void reportClean(final String executionID) {
+        ShardingSphereEventBus.getInstance().post(new ExecuteProcessCleanReportEvent(executionID));
+    }
 }
@@ -52,6 +52,8 @@ public final class RegistryCenter {
     
     private final GovernanceWatcherFactory listenerFactory;
     
+    private final ProcessRegistrySubscriber processRegistrySubscriber;
+    
     public RegistryCenter(final ClusterPersistRepository repository) {
         this.repository = repository;
         instanceId = GovernanceInstance.getInstance().getId();
@@ -60,6 +62,7 @@ public final class RegistryCenter {
         lockService = new LockRegistryService(repository);
         listenerFactory = new GovernanceWatcherFactory(repository);
         createSubscribers(repository);
+        processRegistrySubscriber = new ProcessRegistrySubscriber(repository);
     }
     
     private void createSubscribers(final ClusterPersistRepository repository) {
@@ -67,7 +70,6 @@ public final class RegistryCenter {
         new GlobalRuleRegistrySubscriber(repository);
         new DataSourceStatusRegistrySubscriber(repository);
         new ScalingRegistrySubscriber(repository);
-        new ProcessRegistrySubscriber(repository);
     }
     
     /**
@@ -79,4 +81,12 @@ public final class RegistryCenter {
         instanceStatusService.registerInstanceOnline(instanceId);
         listenerFactory.watchListeners(schemaNames);
     }
+    
+    /**
+     * Close.
+     */
+    public void close() {
+        processRegistrySubscriber.close();
+        repository.close();
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.governance.core.registry.process.subscriber;
 
 import com.google.common.eventbus.Subscribe;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessCleanReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
@@ -26,27 +28,54 @@ import org.apache.shardingsphere.governance.core.registry.process.event.ShowProc
 import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
 import org.apache.shardingsphere.governance.repository.spi.ClusterPersistRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Process registry subscriber.
+ * 
+ * <p>Execute processes are tracked in memory of current instance. Processes running longer than publish interval are published to registry center periodically,
+ * and all processes are published before show process list data is loaded. Only processes changed since last publish are written.</p>
  */
+@Slf4j
 public final class ProcessRegistrySubscriber {
     
+    private static final long PUBLISH_INTERVAL_MILLIS = 1000L;
+    
+    private static final ScheduledThreadPoolExecutor PUBLISH_EXECUTOR = new ScheduledThreadPoolExecutor(1, ExecutorThreadFactoryBuilder.build("process-publish-%d"));
+    
     private final ClusterPersistRepository repository;
     
+    private final Map<String, ExecuteProcessContext> executeProcessContexts = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> publishedProcesses = new HashMap<>();
+    
+    private final ScheduledFuture<?> publishFuture;
+    
+    static {
+        PUBLISH_EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+    
     public ProcessRegistrySubscriber(final ClusterPersistRepository repository) {
         this.repository = repository;
         ShardingSphereEventBus.getInstance().register(this);
+        publishFuture = PUBLISH_EXECUTOR.scheduleWithFixedDelay(this::publishLongRunningProcesses, PUBLISH_INTERVAL_MILLIS, PUBLISH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -56,6 +85,7 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void loadShowProcessListData(final ShowProcessListRequestEvent event) {
+        publish(Long.MAX_VALUE);
         List<String> childrenKeys = repository.getChildrenKeys(ProcessNode.getExecutionNodesPath());
         Collection<String> processListData = childrenKeys.stream().map(key -> repository.get(ProcessNode.getExecutionPath(key))).collect(Collectors.toList());
         ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(processListData));
@@ -69,7 +99,7 @@ public final class ProcessRegistrySubscriber {
     @Subscribe
     public void reportExecuteProcessSummary(final ExecuteProcessSummaryReportEvent event) {
         ExecuteProcessContext executeProcessContext = event.getExecuteProcessContext();
-        repository.persist(ProcessNode.getExecutionPath(executeProcessContext.getExecutionID()), YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
+        executeProcessContexts.put(executeProcessContext.getExecutionID(), executeProcessContext);
     }
     
     /**
@@ -79,17 +109,15 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void reportExecuteProcessUnit(final ExecuteProcessUnitReportEvent event) {
-        String executionID = event.getExecutionID();
-        synchronized (executionID) {
-            String executionPath = ProcessNode.getExecutionPath(executionID);
-            YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-            ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
-            for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-                if (unit.getUnitID().equals(executeProcessUnit.getUnitID())) {
-                    unit.setStatus(executeProcessUnit.getStatus());
-                }
+        ExecuteProcessContext executeProcessContext = executeProcessContexts.get(event.getExecutionID());
+        if (null == executeProcessContext) {
+            return;
+        }
+        ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
+        for (ExecuteProcessUnit each : executeProcessContext.getUnitStatuses()) {
+            if (each.getUnitID().equals(executeProcessUnit.getUnitID())) {
+                each.setStatus(executeProcessUnit.getStatus());
             }
-            repository.persist(executionPath, YamlEngine.marshal(yamlExecuteProcessContext));
         }
     }
     
@@ -100,13 +128,63 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void reportExecuteProcess(final ExecuteProcessReportEvent event) {
-        String executionPath = ProcessNode.getExecutionPath(event.getExecutionID());
-        YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-        for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (unit.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
+        ExecuteProcessContext executeProcessContext = executeProcessContexts.get(event.getExecutionID());
+        if (null == executeProcessContext) {
+            return;
+        }
+        for (ExecuteProcessUnit each : executeProcessContext.getUnitStatuses()) {
+            if (each.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
                 return;
             }
         }
-        repository.delete(executionPath);
+        executeProcessContexts.remove(event.getExecutionID());
+    }
+    
+    /**
+     * Report execute process clean.
+     *
+     * @param event execute process clean report event.
+     */
+    @Subscribe
+    public void reportExecuteProcessClean(final ExecuteProcessCleanReportEvent event) {
+        executeProcessContexts.remove(event.getExecutionID());
+    }
+    
+    /**
+     * Close.
+     */
+    public void close() {
+        publishFuture.cancel(false);
+        ShardingSphereEventBus.getInstance().unregister(this);
+    }
+    
+    private void publishLongRunningProcesses() {
+        try {
+            publish(System.currentTimeMillis() - PUBLISH_INTERVAL_MILLIS);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Publish execute processes failed.", ex);
+        }
+    }
+    
+    private synchronized void publish(final long maxStartTimeMillis) {
+        for (ExecuteProcessContext each : executeProcessContexts.values()) {
+            if (each.getStartTimeMillis() <= maxStartTimeMillis) {
+                String executeProcessText = YamlEngine.marshal(new YamlExecuteProcessContext(each));
+                if (!executeProcessText.equals(publishedProcesses.get(each.getExecutionID()))) {
+                    repository.persist(ProcessNode.getExecutionPath(each.getExecutionID()), executeProcessText);
+                    publishedProcesses.put(each.getExecutionID(), executeProcessText);
+                }
+            }
+        }
+        Iterator<Entry<String, String>> iterator = publishedProcesses.entrySet().iterator();
+        while (iterator.hasNext()) {
+            String executionID = iterator.next().getKey();
+            if (!executeProcessContexts.containsKey(executionID)) {
+                repository.delete(ProcessNode.getExecutionPath(executionID));
+                iterator.remove();
+            }
+        }
     }
 }
@@ -23,6 +23,7 @@ import java.util.Collections;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
+import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
 import org.apache.shardingsphere.governance.core.registry.process.subscriber.ProcessRegistrySubscriber;
 import org.apache.shardingsphere.governance.repository.spi.ClusterPersistRepository;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecu
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.junit.After;
 import org.junit.Test;
 
 import static org.junit.Assert.assertNotNull;
@@ -71,6 +73,11 @@ public final class ProcessRegistrySubscriberTestNoMock {
         return new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
     }
     
+    @After
+    public void tearDown() {
+        subscriber.close();
+    }
+    
     @Test
     public void assertWholeProcessCompleted() {
         assertReportExecuteProcessSummary();
@@ -90,6 +97,8 @@ public final class ProcessRegistrySubscriberTestNoMock {
     private void assertReportExecuteProcessSummary() {
         subscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(executeProcessContext));
         String executionID = executeProcessContext.getExecutionID();
+        assertNull(repository.get(ProcessNode.getExecutionPath(executionID)));
+        subscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
         String executeProcessText = repository.get(ProcessNode.getExecutionPath(executionID));
         assertNotNull(executeProcessText);
         YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(executeProcessText, YamlExecuteProcessContext.class);
@@ -110,6 +119,7 @@ public final class ProcessRegistrySubscriberTestNoMock {
         String executionID = executeProcessContext.getExecutionID();
         ExecuteProcessUnitReportEvent event = new ExecuteProcessUnitReportEvent(executionID, new ExecuteProcessUnit(executionUnit, processConstants));
         subscriber.reportExecuteProcessUnit(event);
+        subscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
         String executeProcessText = repository.get(ProcessNode.getExecutionPath(executionID));
         assertNotNull(executeProcessText);
         YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(executeProcessText, YamlExecuteProcessContext.class);
@@ -122,6 +132,7 @@ public final class ProcessRegistrySubscriberTestNoMock {
         String executionID = executeProcessContext.getExecutionID();
         ExecuteProcessReportEvent event = new ExecuteProcessReportEvent(executionID);
         subscriber.reportExecuteProcess(event);
+        subscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
         String executeProcessText = repository.get(ProcessNode.getExecutionPath(executionID));
         if (ExecuteProcessConstants.EXECUTE_STATUS_DONE == processConstants) {
             assertNull(executeProcessText);
@@ -17,31 +17,38 @@
 
 package org.apache.shardingsphere.governance.core.registry.process.subscriber;
 
+import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessCleanReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.governance.repository.spi.ClusterPersistRepository;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Collection;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +62,13 @@ public final class ProcessRegistrySubscriberTest {
     @InjectMocks
     private ProcessRegistrySubscriber processRegistrySubscriber;
     
+    private final ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList()));
+    
+    @After
+    public void tearDown() {
+        processRegistrySubscriber.close();
+    }
+    
     @Test
     public void assertLoadShowProcessListData() {
         ShowProcessListRequestEvent showProcessListRequestEvent = mock(ShowProcessListRequestEvent.class);
@@ -72,51 +86,76 @@ public final class ProcessRegistrySubscriberTest {
         when(executeProcessContext.getExecutionID()).thenReturn("id");
         processRegistrySubscriber.reportExecuteProcessSummary(event);
         verify(event, times(1)).getExecuteProcessContext();
+        verify(repository, never()).persist(anyString(), any());
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
         verify(repository, times(1)).persist(anyString(), any());
     }
     
     @Test
     public void assertReportExecuteProcessSummaryWithId() {
-        ExecutionGroupContext executionGroupContext = mock(ExecutionGroupContext.class);
-        when(executionGroupContext.getExecutionID()).thenReturn("id");
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
-        ExecuteProcessSummaryReportEvent event = new ExecuteProcessSummaryReportEvent(executeProcessContext);
-        ProcessRegistrySubscriber subscriber = new ProcessRegistrySubscriber(repository);
-        subscriber.reportExecuteProcessSummary(event);
+        ExecuteProcessContext executeProcessContext = createExecuteProcessContext();
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(executeProcessContext));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
         verify(repository).persist("/executionnodes/id", YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
     }
     
     @Test
     public void assertReportExecuteProcessUnit() {
-        ExecuteProcessUnitReportEvent event = mock(ExecuteProcessUnitReportEvent.class);
-        when(event.getExecutionID()).thenReturn("id");
-        when(repository.get(anyString())).thenReturn(mockYamlExecuteProcessContext());
-        when(event.getExecuteProcessUnit()).thenReturn(mockExecuteProcessUnit());
-        processRegistrySubscriber.reportExecuteProcessUnit(event);
-        verify(repository, times(1)).persist(any(), any());
+        ExecuteProcessContext executeProcessContext = createExecuteProcessContext();
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(executeProcessContext));
+        ExecuteProcessUnit executeProcessUnit = new ExecuteProcessUnit(executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        processRegistrySubscriber.reportExecuteProcessUnit(new ExecuteProcessUnitReportEvent("id", executeProcessUnit));
+        verify(repository, never()).persist(any(), any());
+        assertThat(executeProcessContext.getUnitStatuses().iterator().next().getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
     }
     
     @Test
     public void assertReportExecuteProcess() {
-        ExecuteProcessReportEvent event = mock(ExecuteProcessReportEvent.class);
-        when(event.getExecutionID()).thenReturn("id");
-        when(repository.get(anyString())).thenReturn(mockYamlExecuteProcessContext());
-        processRegistrySubscriber.reportExecuteProcess(event);
-        verify(repository, times(1)).delete(any());
+        ExecuteProcessContext executeProcessContext = createExecuteProcessContext();
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(executeProcessContext));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        processRegistrySubscriber.reportExecuteProcessUnit(new ExecuteProcessUnitReportEvent("id", new ExecuteProcessUnit(executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE)));
+        processRegistrySubscriber.reportExecuteProcess(new ExecuteProcessReportEvent("id"));
+        verify(repository, never()).delete(any());
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, times(1)).delete("/executionnodes/id");
     }
     
-    private String mockYamlExecuteProcessContext() {
-        YamlExecuteProcessUnit yamlExecuteProcessUnit = new YamlExecuteProcessUnit();
-        yamlExecuteProcessUnit.setUnitID("159917166");
-        yamlExecuteProcessUnit.setStatus(ExecuteProcessConstants.EXECUTE_STATUS_DONE);
-        Collection<YamlExecuteProcessUnit> unitStatuses = Collections.singleton(yamlExecuteProcessUnit);
-        YamlExecuteProcessContext yamlExecuteProcessContext = new YamlExecuteProcessContext();
-        yamlExecuteProcessContext.setUnitStatuses(unitStatuses);
-        return YamlEngine.marshal(yamlExecuteProcessContext);
+    @Test
+    public void assertReportExecuteProcessWithUncompletedUnit() {
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(createExecuteProcessContext()));
+        processRegistrySubscriber.reportExecuteProcess(new ExecuteProcessReportEvent("id"));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, times(1)).persist(any(), any());
+        verify(repository, never()).delete(any());
     }
     
-    private ExecuteProcessUnit mockExecuteProcessUnit() {
-        ExecutionUnit executionUnit = mock(ExecutionUnit.class);
-        return new ExecuteProcessUnit(executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+    @Test
+    public void assertReportExecuteProcessClean() {
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(createExecuteProcessContext()));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        processRegistrySubscriber.reportExecuteProcessClean(new ExecuteProcessCleanReportEvent("id"));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, times(1)).delete("/executionnodes/id");
+    }
+    
+    @Test
+    public void assertPublishUnchangedExecuteProcessOnce() {
+        processRegistrySubscriber.reportExecuteProcessSummary(new ExecuteProcessSummaryReportEvent(createExecuteProcessContext()));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, times(1)).persist(any(), any());
+        processRegistrySubscriber.reportExecuteProcessUnit(new ExecuteProcessUnitReportEvent("id", new ExecuteProcessUnit(executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE)));
+        processRegistrySubscriber.loadShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, times(2)).persist(any(), any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ExecuteProcessContext createExecuteProcessContext() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = mock(ExecutionGroupContext.class);
+        when(executionGroupContext.getExecutionID()).thenReturn("id");
+        when(executionGroupContext.getInputGroups()).thenReturn(
+                Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, null)))));
+        return new ExecuteProcessContext("sql1", executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
     }
 }
@@ -137,7 +137,37 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Whether check duplicate table.
      */
-    CHECK_DUPLICATE_TABLE_ENABLED("check-duplicate-table-enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_DUPLICATE_TABLE_ENABLED("check-duplicate-table-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether merge order by stream results with loser tree instead of priority queue.
+     * Loser tree needs less comparisons when there are lots of sharding query results.
+     */
+    SQL_MERGE_LOSER_TREE_ENABLED("sql-merge-loser-tree-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max group rows kept in memory for each group by merge, rows of other groups will be spilled to local temporary files.
+     * The default value is 0, which means all group rows are kept in memory.
+     */
+    SQL_MERGE_GROUP_BY_MAX_MEMORY_ROWS("sql-merge-group-by-max-memory-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max bytes of strings and decimals kept by each memory query result loaded from JDBC result set.
+     * The default value is 0, which means the max length of Java array, about 2 GB.
+     */
+    SQL_MEMORY_QUERY_RESULT_MAX_BYTES("sql-memory-query-result-max-bytes", String.valueOf(0), int.class),
+    
+    /**
+     * Max prepared statements cached for each backend connection of ShardingSphere Proxy.
+     * The default value is 0, which means prepared statements are closed after every execution.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max route results of sharding conditions with list values cached for each sharding rule, sharding algorithms must return same results for same values when enabled.
+     * The default value is 0, which means route results are not cached.
+     */
+    SHARDING_ROUTE_CACHE_SIZE("sharding-route-cache-size", String.valueOf(0), int.class);
     
     private final String key;
     
@@ -17,18 +17,73 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.JDBCMemoryByteArena;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.JDBCMemoryColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.JDBCMemoryColumnFactory;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.stream.IntStream;
 
 /**
  * JDBC query result for memory loading.
+ *
+ * <p>
+ * Values are saved by columns, column types are resolved only once, primitive values are saved in primitive arrays and strings or decimals are saved in one byte arena.
+ * </p>
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
     public JDBCMemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet).iterator());
+        this(resultSet, 0);
+    }
+    
+    public JDBCMemoryQueryResult(final ResultSet resultSet, final int maxBytes) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), load(resultSet, maxBytes));
+    }
+    
+    private static Iterator<MemoryQueryResultDataRow> load(final ResultSet resultSet, final int maxBytes) throws SQLException {
+        JDBCMemoryColumn[] columns = createColumns(resultSet.getMetaData(), new JDBCMemoryByteArena(maxBytes));
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].load(resultSet, i + 1);
+            }
+            rowCount++;
+        }
+        return IntStream.range(0, rowCount).mapToObj(each -> new MemoryQueryResultDataRow(new ColumnValues(columns, each))).iterator();
+    }
+    
+    private static JDBCMemoryColumn[] createColumns(final ResultSetMetaData resultSetMetaData, final JDBCMemoryByteArena arena) throws SQLException {
+        JDBCMemoryColumn[] result = new JDBCMemoryColumn[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = JDBCMemoryColumnFactory.newInstance(resultSetMetaData, i + 1, arena);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnValues extends AbstractList<Object> {
+        
+        private final JDBCMemoryColumn[] columns;
+        
+        private final int rowIndex;
+        
+        @Override
+        public Object get(final int index) {
+            return columns[index].getValue(rowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
     }
 }
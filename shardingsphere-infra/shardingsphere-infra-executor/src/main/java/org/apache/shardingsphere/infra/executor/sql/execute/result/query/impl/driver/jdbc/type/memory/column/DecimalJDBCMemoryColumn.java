@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * JDBC memory column for decimal values.
+ *
+ * <p>
+ * Unscaled value which fits in long is saved in long array, others are saved in byte arena.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DecimalJDBCMemoryColumn extends JDBCMemoryColumn {
+    
+    private static final int COMPACT_LENGTH = -1;
+    
+    private final JDBCMemoryByteArena arena;
+    
+    private long[] unscaledValues = new long[0];
+    
+    private int[] scales = new int[0];
+    
+    private int[] lengths = new int[0];
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        unscaledValues = Arrays.copyOf(unscaledValues, newCapacity);
+        scales = Arrays.copyOf(scales, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        BigDecimal value = resultSet.getBigDecimal(columnIndex);
+        if (null == value) {
+            return false;
+        }
+        BigInteger unscaledValue = value.unscaledValue();
+        scales[rowIndex] = value.scale();
+        if (unscaledValue.bitLength() < Long.SIZE) {
+            unscaledValues[rowIndex] = unscaledValue.longValue();
+            lengths[rowIndex] = COMPACT_LENGTH;
+        } else {
+            byte[] bytes = unscaledValue.toByteArray();
+            unscaledValues[rowIndex] = arena.append(bytes);
+            lengths[rowIndex] = bytes.length;
+        }
+        return true;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        if (COMPACT_LENGTH == lengths[rowIndex]) {
+            return BigDecimal.valueOf(unscaledValues[rowIndex], scales[rowIndex]);
+        }
+        return new BigDecimal(new BigInteger(arena.getBytes((int) unscaledValues[rowIndex], lengths[rowIndex])), scales[rowIndex]);
+    }
+}
@@ -15,30 +15,32 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.infra.rewrite.sql.impl;
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
 
-import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
 
 /**
- * SQL builder with route.
+ * JDBC memory column for double values.
  */
-public final class RouteSQLBuilder extends AbstractSQLBuilder {
+public final class DoubleJDBCMemoryColumn extends JDBCMemoryColumn {
     
-    private final RouteUnit routeUnit;
+    private double[] values = new double[0];
     
-    public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
-        super(context);
-        this.routeUnit = routeUnit;
+    @Override
+    protected void grow(final int newCapacity) {
+        values = Arrays.copyOf(values, newCapacity);
+    }
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        values[rowIndex] = resultSet.getDouble(columnIndex);
+        return true;
     }
     
     @Override
-    protected String getSQLTokenText(final SQLToken sqlToken) {
-        if (sqlToken instanceof RouteUnitAware) {
-            return ((RouteUnitAware) sqlToken).toString(routeUnit);
-        }
-        return sqlToken.toString();
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JDBC memory byte arena, which saves variable length values of all columns in one byte array.
+ *
+ * <p>
+ * Max capacity not greater than 0 means the max length of Java array.
+ * </p>
+ */
+public final class JDBCMemoryByteArena {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    
+    private final int maxCapacity;
+    
+    private byte[] data = new byte[0];
+    
+    @Getter
+    private int size;
+    
+    public JDBCMemoryByteArena() {
+        this(0);
+    }
+    
+    public JDBCMemoryByteArena(final int maxCapacity) {
+        this.maxCapacity = maxCapacity > 0 && maxCapacity < MAX_CAPACITY ? maxCapacity : MAX_CAPACITY;
+    }
+    
+    /**
+     * Append bytes.
+     *
+     * @param value bytes to be appended
+     * @return offset of appended bytes
+     */
+    public int append(final byte[] value) {
+        int result = allocate(value.length);
+        System.arraycopy(value, 0, data, result, value.length);
+        return result;
+    }
+    
+    /**
+     * Append string.
+     *
+     * <p>
+     * String which only contains latin1 characters is saved as one byte per character, other string is saved as two bytes per character.
+     * </p>
+     *
+     * @param value string to be appended
+     * @return offset of appended string
+     */
+    public int append(final String value) {
+        int length = value.length();
+        boolean latin1 = isLatin1(value);
+        int result = allocate(latin1 ? length : length << 1);
+        int position = result;
+        for (int i = 0; i < length; i++) {
+            char each = value.charAt(i);
+            if (!latin1) {
+                data[position++] = (byte) (each >>> 8);
+            }
+            data[position++] = (byte) each;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether string only contains latin1 characters.
+     *
+     * @param value string
+     * @return only contains latin1 characters or not
+     */
+    public static boolean isLatin1(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int allocate(final int length) {
+        Preconditions.checkState(length <= maxCapacity - size, "Memory query result exceeds max byte size %s.", maxCapacity);
+        if (size + length > data.length) {
+            long newCapacity = Math.max(Math.max(INITIAL_CAPACITY, (long) data.length + (data.length >> 1)), size + length);
+            data = Arrays.copyOf(data, (int) Math.min(newCapacity, maxCapacity));
+        }
+        int result = size;
+        size += length;
+        return result;
+    }
+    
+    /**
+     * Get bytes.
+     *
+     * @param offset offset
+     * @param length length
+     * @return bytes
+     */
+    public byte[] getBytes(final int offset, final int length) {
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+    
+    /**
+     * Get string.
+     *
+     * @param offset offset
+     * @param length length of characters
+     * @param latin1 whether string only contains latin1 characters
+     * @return string
+     */
+    public String getString(final int offset, final int length, final boolean latin1) {
+        if (latin1) {
+            return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        char[] result = new char[length];
+        int position = offset;
+        for (int i = 0; i < length; i++) {
+            result[i] = (char) ((data[position] & 0xFF) << 8 | data[position + 1] & 0xFF);
+            position += 2;
+        }
+        return new String(result);
+    }
+}
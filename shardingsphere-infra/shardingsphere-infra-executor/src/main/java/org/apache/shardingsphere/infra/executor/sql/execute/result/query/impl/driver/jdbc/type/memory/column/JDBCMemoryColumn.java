@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * JDBC memory column, which saves values of one column for all rows.
+ */
+public abstract class JDBCMemoryColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private long[] nulls = new long[1];
+    
+    private int capacity;
+    
+    private int size;
+    
+    /**
+     * Load value of current row from result set.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    public final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        if (size == capacity) {
+            capacity = 0 == capacity ? INITIAL_CAPACITY : capacity + (capacity >> 1);
+            grow(capacity);
+        }
+        if (!loadValue(resultSet, columnIndex, size) || resultSet.wasNull()) {
+            setNull(size);
+        }
+        size++;
+    }
+    
+    private void setNull(final int rowIndex) {
+        int wordIndex = rowIndex >>> 6;
+        if (wordIndex >= nulls.length) {
+            nulls = Arrays.copyOf(nulls, Math.max(wordIndex + 1, nulls.length << 1));
+        }
+        nulls[wordIndex] |= 1L << rowIndex;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    public final Object getValue(final int rowIndex) {
+        int wordIndex = rowIndex >>> 6;
+        return wordIndex < nulls.length && 0 != (nulls[wordIndex] & 1L << rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    /**
+     * Grow capacity.
+     *
+     * @param newCapacity new capacity
+     */
+    protected abstract void grow(int newCapacity);
+    
+    /**
+     * Load value from result set and save it at row index.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @return false if value is null
+     * @throws SQLException SQL exception
+     */
+    protected abstract boolean loadValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+    
+    /**
+     * Get non null value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    protected abstract Object getNonNullValue(int rowIndex);
+}
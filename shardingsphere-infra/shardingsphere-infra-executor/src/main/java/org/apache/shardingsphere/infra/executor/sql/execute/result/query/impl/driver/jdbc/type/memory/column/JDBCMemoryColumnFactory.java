@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * JDBC memory column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCMemoryColumnFactory {
+    
+    /**
+     * Create new instance of JDBC memory column.
+     *
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @param arena byte arena
+     * @return new instance of JDBC memory column
+     * @throws SQLException SQL exception
+     */
+    public static JDBCMemoryColumn newInstance(final ResultSetMetaData metaData, final int columnIndex, final JDBCMemoryByteArena arena) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new ObjectJDBCMemoryColumn(ResultSet::getBoolean);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntJDBCMemoryColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntJDBCMemoryColumn() : new LongJDBCMemoryColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongJDBCMemoryColumn() : new ObjectJDBCMemoryColumn(JDBCMemoryColumnFactory::getUnsignedBigInt);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new DecimalJDBCMemoryColumn(arena);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleJDBCMemoryColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringJDBCMemoryColumn(arena);
+            case Types.DATE:
+                return new ObjectJDBCMemoryColumn(ResultSet::getDate);
+            case Types.TIME:
+                return new ObjectJDBCMemoryColumn(ResultSet::getTime);
+            case Types.TIMESTAMP:
+                return new ObjectJDBCMemoryColumn(ResultSet::getTimestamp);
+            case Types.CLOB:
+                return new ObjectJDBCMemoryColumn(ResultSet::getClob);
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new ObjectJDBCMemoryColumn(ResultSet::getBlob);
+            case Types.ARRAY:
+                return new ObjectJDBCMemoryColumn(ResultSet::getArray);
+            default:
+                return new ObjectJDBCMemoryColumn(ResultSet::getObject);
+        }
+    }
+    
+    private static Object getUnsignedBigInt(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        BigDecimal result = resultSet.getBigDecimal(columnIndex);
+        return null == result ? null : result.toBigInteger();
+    }
+}
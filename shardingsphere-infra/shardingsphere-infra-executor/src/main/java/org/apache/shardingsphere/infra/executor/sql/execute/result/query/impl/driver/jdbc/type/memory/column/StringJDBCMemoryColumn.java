@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * JDBC memory column for string values, which are saved in byte arena.
+ */
+@RequiredArgsConstructor
+public final class StringJDBCMemoryColumn extends JDBCMemoryColumn {
+    
+    private final JDBCMemoryByteArena arena;
+    
+    private int[] offsets = new int[0];
+    
+    private int[] lengths = new int[0];
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+    
+    @Override
+    protected boolean loadValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (null == value) {
+            return false;
+        }
+        offsets[rowIndex] = arena.append(value);
+        lengths[rowIndex] = JDBCMemoryByteArena.isLatin1(value) ? value.length() : ~value.length();
+        return true;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        int length = lengths[rowIndex];
+        return length >= 0 ? arena.getString(offsets[rowIndex], length, true) : arena.getString(offsets[rowIndex], ~length, false);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.execute;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateSemiJoinKey;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Federate cached statement, which holds a Calcite connection and the statement prepared on it.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FederateCachedStatement {
+    
+    private final String sql;
+    
+    private final long schemaVersion;
+    
+    private final Connection connection;
+    
+    private final PreparedStatement preparedStatement;
+    
+    private final Collection<FederateSemiJoinKey> semiJoinKeys;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<FederateRowExecutor> rowExecutor;
+    
+    @Getter(AccessLevel.NONE)
+    private long bindTimeMillis;
+    
+    /**
+     * Bind row executor of current query.
+     *
+     * @param rowExecutor row executor
+     */
+    public void bind(final FederateRowExecutor rowExecutor) {
+        this.rowExecutor.set(rowExecutor);
+        bindTimeMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * Reset for next query.
+     *
+     * @return elapsed millis since binding, which covers executing the query and consuming its result set
+     * @throws SQLException SQL exception
+     */
+    public long reset() throws SQLException {
+        rowExecutor.set(null);
+        ResultSet resultSet = preparedStatement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+        preparedStatement.clearParameters();
+        return System.currentTimeMillis() - bindTimeMillis;
+    }
+    
+    /**
+     * Close.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        rowExecutor.set(null);
+        connection.close();
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.sql.federate.execute;
 
 import org.apache.calcite.config.CalciteConnectionProperty;
 import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.rel.RelRoot;
+import org.apache.calcite.runtime.Hook;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
@@ -30,8 +32,10 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.FederateLogicSchema;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateSemiJoinKey;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.Connection;
@@ -39,10 +43,14 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Federate JDBC executor.
@@ -61,7 +69,9 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     
     private final JDBCExecutor jdbcExecutor;
     
-    private Statement statement;
+    private FederatePlanCache planCache;
+    
+    private FederateCachedStatement cachedStatement;
     
     static {
         try {
@@ -87,33 +97,69 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     
     @Override
     public void close() throws SQLException {
-        if (null != statement && !statement.isClosed()) {
-            Connection connection = statement.getConnection();
-            statement.close();
-            connection.close();
-        }
+        releaseStatement();
     }
     
     @Override
     public ResultSet getResultSet() throws SQLException {
-        return statement.getResultSet();
+        return cachedStatement.getPreparedStatement().getResultSet();
     }
     
     private ResultSet execute(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                               final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
+        releaseStatement();
         SQLUnit sqlUnit = executionContext.getExecutionUnits().iterator().next().getSqlUnit();
-        PreparedStatement statement = getConnection(executionContext, callback, prepareEngine).prepareStatement(SQLUtil.trimSemicolon(sqlUnit.getSql()));
-        setParameters(statement, sqlUnit.getParameters());
-        this.statement = statement;
-        return statement.executeQuery();
+        String sql = SQLUtil.trimSemicolon(sqlUnit.getSql());
+        cachedStatement = borrowStatement(sql);
+        cachedStatement.bind(new FederateRowExecutor(props, jdbcExecutor, executionContext, callback, prepareEngine, cachedStatement.getSemiJoinKeys()));
+        try {
+            setParameters(cachedStatement.getPreparedStatement(), sqlUnit.getParameters());
+            return cachedStatement.getPreparedStatement().executeQuery();
+        } catch (final SQLException ex) {
+            cachedStatement.close();
+            cachedStatement = null;
+            throw ex;
+        }
     }
     
-    private Connection getConnection(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
-                                     final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
-        Connection result = DriverManager.getConnection(CONNECTION_URL, getProperties());
-        CalciteConnection calciteConnection = result.unwrap(CalciteConnection.class);
-        addSchema(calciteConnection, executionContext, callback, prepareEngine);
-        return result;
+    private FederateCachedStatement borrowStatement(final String sql) throws SQLException {
+        FederateSchemaMetadata schemaMetadata = factory.getSchemaMetadatas().getSchemaMetadataBySchemaName(schema);
+        long schemaVersion = schemaMetadata.getVersion();
+        planCache = FederatePlanCache.getInstance(schemaMetadata);
+        Optional<FederateCachedStatement> result = planCache.poll(sql, schemaVersion);
+        return result.isPresent() ? result.get() : prepare(sql, schemaMetadata, schemaVersion);
+    }
+    
+    private FederateCachedStatement prepare(final String sql, final FederateSchemaMetadata schemaMetadata, final long schemaVersion) throws SQLException {
+        Connection connection = DriverManager.getConnection(CONNECTION_URL, getProperties());
+        try {
+            AtomicReference<FederateRowExecutor> rowExecutor = new AtomicReference<>();
+            CalciteConnection calciteConnection = connection.unwrap(CalciteConnection.class);
+            calciteConnection.getRootSchema().add(schema, new FederateLogicSchema(schemaMetadata, rowExecutor::get));
+            calciteConnection.setSchema(schema);
+            Collection<FederateSemiJoinKey> semiJoinKeys = new LinkedList<>();
+            try (Hook.Closeable ignored = Hook.PLAN_BEFORE_IMPLEMENTATION.addThread((Consumer<RelRoot>) root -> semiJoinKeys.addAll(FederateSemiJoinKeyExtractor.extract(root.rel)))) {
+                return new FederateCachedStatement(sql, schemaVersion, connection, connection.prepareStatement(sql), semiJoinKeys, rowExecutor);
+            }
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+    
+    private void releaseStatement() throws SQLException {
+        if (null == cachedStatement) {
+            return;
+        }
+        FederateCachedStatement statement = cachedStatement;
+        cachedStatement = null;
+        try {
+            statement.reset();
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        planCache.offer(statement);
     }
     
     private Properties getProperties() {
@@ -124,14 +170,6 @@ public final class FederateJDBCExecutor implements FederateExecutor {
         return result;
     }
     
-    private void addSchema(final CalciteConnection calciteConnection, final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
-                           final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
-        FederateRowExecutor executor = new FederateRowExecutor(props, jdbcExecutor, executionContext, callback, prepareEngine);
-        FederateLogicSchema logicSchema = new FederateLogicSchema(factory.getSchemaMetadatas().getSchemaMetadataBySchemaName(schema), executor);
-        calciteConnection.getRootSchema().add(schema, logicSchema);
-        calciteConnection.setSchema(schema);
-    }
-    
     private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
         int count = 1;
         for (Object each : parameters) {
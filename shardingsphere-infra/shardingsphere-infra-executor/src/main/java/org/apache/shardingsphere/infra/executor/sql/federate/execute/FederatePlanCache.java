@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.execute;
+
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.WeakHashMap;
+
+/**
+ * Federate plan cache.
+ * 
+ * <p>Idle Calcite statements are pooled by SQL for each federate schema, a reused statement keeps its physical plan and only rebinds parameters.
+ * All pooled statements are discarded once the version of schema metadata is changed by DDL.</p>
+ */
+public final class FederatePlanCache {
+    
+    private static final int MAX_CACHED_SQL_SIZE = 256;
+    
+    private static final int MAX_IDLE_STATEMENT_SIZE_PER_SQL = 8;
+    
+    private static final Map<FederateSchemaMetadata, FederatePlanCache> INSTANCES = new WeakHashMap<>();
+    
+    private final Map<String, Queue<FederateCachedStatement>> idleStatements = new LinkedHashMap<String, Queue<FederateCachedStatement>>(16, 0.75f, true) {
+        
+        private static final long serialVersionUID = -5286924521374196345L;
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<String, Queue<FederateCachedStatement>> eldest) {
+            if (size() > MAX_CACHED_SQL_SIZE) {
+                eldest.getValue().forEach(FederatePlanCache::close);
+                return true;
+            }
+            return false;
+        }
+    };
+    
+    private long schemaVersion;
+    
+    /**
+     * Get plan cache of federate schema.
+     *
+     * @param schemaMetadata federate schema metadata
+     * @return plan cache
+     */
+    public static synchronized FederatePlanCache getInstance(final FederateSchemaMetadata schemaMetadata) {
+        return INSTANCES.computeIfAbsent(schemaMetadata, key -> new FederatePlanCache());
+    }
+    
+    /**
+     * Poll idle statement.
+     *
+     * @param sql SQL
+     * @param schemaVersion current version of schema metadata
+     * @return idle statement
+     */
+    public synchronized Optional<FederateCachedStatement> poll(final String sql, final long schemaVersion) {
+        if (this.schemaVersion != schemaVersion) {
+            idleStatements.values().forEach(each -> each.forEach(FederatePlanCache::close));
+            idleStatements.clear();
+            this.schemaVersion = schemaVersion;
+            return Optional.empty();
+        }
+        Queue<FederateCachedStatement> statements = idleStatements.get(sql);
+        return null == statements ? Optional.empty() : Optional.ofNullable(statements.poll());
+    }
+    
+    /**
+     * Offer statement to be reused, statement prepared on stale schema metadata will be closed.
+     *
+     * @param statement statement
+     */
+    public synchronized void offer(final FederateCachedStatement statement) {
+        if (statement.getSchemaVersion() != schemaVersion) {
+            close(statement);
+            return;
+        }
+        Queue<FederateCachedStatement> statements = idleStatements.computeIfAbsent(statement.getSql(), key -> new LinkedList<>());
+        if (statements.size() >= MAX_IDLE_STATEMENT_SIZE_PER_SQL) {
+            close(statement);
+        } else {
+            statements.offer(statement);
+        }
+    }
+    
+    private static void close(final FederateCachedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.execute;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Calc;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.util.Pair;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateSemiJoinKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Federate semi join key extractor, which extracts semi join keys from equi join conditions of the physical plan.
+ * 
+ * <p>The key columns of both sides must be traced to a table which is scanned only once in the plan through projections, filters and joins only,
+ * and key values of one side can restrict the other side only if rows of the other side without match are dropped by the join.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederateSemiJoinKeyExtractor {
+    
+    /**
+     * Extract semi join keys.
+     *
+     * @param rel physical plan
+     * @return semi join keys
+     */
+    public static Collection<FederateSemiJoinKey> extract(final RelNode rel) {
+        Collection<Join> joins = new LinkedList<>();
+        Map<String, Integer> scanCounts = new HashMap<>();
+        collect(rel, joins, scanCounts);
+        Collection<FederateSemiJoinKey> result = new LinkedHashSet<>();
+        for (Join each : joins) {
+            extract(each, result);
+        }
+        result.removeIf(each -> 1 != scanCounts.get(each.getProviderTable()) || 1 != scanCounts.get(each.getConsumerTable()));
+        return result;
+    }
+    
+    private static void extract(final Join join, final Collection<FederateSemiJoinKey> semiJoinKeys) {
+        List<Integer> leftKeys = new ArrayList<>();
+        List<Integer> rightKeys = new ArrayList<>();
+        List<Boolean> filterNulls = new ArrayList<>();
+        RelOptUtil.splitJoinCondition(join.getLeft(), join.getRight(), join.getCondition(), leftKeys, rightKeys, filterNulls, new ArrayList<>());
+        for (int i = 0; i < leftKeys.size(); i++) {
+            if (!filterNulls.get(i)) {
+                continue;
+            }
+            Optional<Pair<String, String>> leftColumn = findColumn(join.getLeft(), leftKeys.get(i));
+            Optional<Pair<String, String>> rightColumn = findColumn(join.getRight(), rightKeys.get(i));
+            if (!leftColumn.isPresent() || !rightColumn.isPresent() || leftColumn.get().left.equals(rightColumn.get().left)) {
+                continue;
+            }
+            if (isLeftProvider(join.getJoinType())) {
+                semiJoinKeys.add(new FederateSemiJoinKey(leftColumn.get().left, leftColumn.get().right, rightColumn.get().left, rightColumn.get().right));
+            }
+            if (isRightProvider(join.getJoinType())) {
+                semiJoinKeys.add(new FederateSemiJoinKey(rightColumn.get().left, rightColumn.get().right, leftColumn.get().left, leftColumn.get().right));
+            }
+        }
+    }
+    
+    private static void collect(final RelNode rel, final Collection<Join> joins, final Map<String, Integer> scanCounts) {
+        if (rel instanceof Join) {
+            joins.add((Join) rel);
+        }
+        if (rel instanceof TableScan) {
+            scanCounts.merge(getTableName((TableScan) rel), 1, Integer::sum);
+        }
+        for (RelNode each : rel.getInputs()) {
+            collect(each, joins, scanCounts);
+        }
+    }
+    
+    private static boolean isLeftProvider(final JoinRelType joinType) {
+        return JoinRelType.INNER == joinType || JoinRelType.SEMI == joinType || JoinRelType.LEFT == joinType;
+    }
+    
+    private static boolean isRightProvider(final JoinRelType joinType) {
+        return JoinRelType.INNER == joinType || JoinRelType.SEMI == joinType || JoinRelType.RIGHT == joinType;
+    }
+    
+    private static Optional<Pair<String, String>> findColumn(final RelNode rel, final int index) {
+        if (rel instanceof TableScan) {
+            return findColumn((TableScan) rel, index);
+        }
+        if (rel instanceof Filter || rel instanceof EnumerableInterpreter) {
+            return findColumn(rel.getInput(0), index);
+        }
+        if (rel instanceof Project) {
+            return findColumn(rel.getInput(0), ((Project) rel).getProjects().get(index));
+        }
+        if (rel instanceof Calc) {
+            RexProgram program = ((Calc) rel).getProgram();
+            return findColumn(rel.getInput(0), program.expandLocalRef(program.getProjectList().get(index)));
+        }
+        if (rel instanceof Join) {
+            int leftFieldCount = ((Join) rel).getLeft().getRowType().getFieldCount();
+            return index < leftFieldCount ? findColumn(((Join) rel).getLeft(), index) : findColumn(((Join) rel).getRight(), index - leftFieldCount);
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<Pair<String, String>> findColumn(final RelNode input, final RexNode expression) {
+        return expression instanceof RexInputRef ? findColumn(input, ((RexInputRef) expression).getIndex()) : Optional.empty();
+    }
+    
+    private static Optional<Pair<String, String>> findColumn(final TableScan scan, final int index) {
+        int columnIndex = scan instanceof BindableTableScan ? ((BindableTableScan) scan).projects.get(index) : index;
+        return Optional.of(Pair.of(getTableName(scan), scan.getTable().getRowType().getFieldNames().get(columnIndex)));
+    }
+    
+    private static String getTableName(final TableScan scan) {
+        List<String> qualifiedName = scan.getTable().getQualifiedName();
+        return qualifiedName.get(qualifiedName.size() - 1);
+    }
+}
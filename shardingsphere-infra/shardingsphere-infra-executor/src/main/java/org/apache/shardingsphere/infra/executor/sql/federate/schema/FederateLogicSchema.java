@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetad
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 
 /**
@@ -41,14 +42,14 @@ public final class FederateLogicSchema extends AbstractSchema {
     
     private final Map<String, Table> tables = new LinkedMap<>();
     
-    public FederateLogicSchema(final FederateSchemaMetadata metadata, final FederateRowExecutor executor) {
+    public FederateLogicSchema(final FederateSchemaMetadata metadata, final Supplier<FederateRowExecutor> executorSupplier) {
         this.name = metadata.getName();
-        initTables(metadata, executor);
+        initTables(metadata, executorSupplier);
     }
     
-    private void initTables(final FederateSchemaMetadata metadata, final FederateRowExecutor executor) {
+    private void initTables(final FederateSchemaMetadata metadata, final Supplier<FederateRowExecutor> executorSupplier) {
         for (Entry<String, FederateTableMetadata> entry : metadata.getTables().entrySet()) {
-            tables.put(entry.getKey(), new FederateFilterableTable(entry.getValue(), executor));
+            tables.put(entry.getKey(), new FederateFilterableTable(entry.getValue(), executorSupplier));
         }
     }
     
@@ -36,12 +36,15 @@ public final class FederateRowEnumerator implements Enumerator<Object[]> {
     
     private final Iterator<QueryResult> iterator;
     
+    private final FederateSemiJoinKeyCollector keyCollector;
+    
     private QueryResult currentResultSet;
     
     private Object[] currentRow;
     
-    public FederateRowEnumerator(final Collection<QueryResult> queryResults) {
+    public FederateRowEnumerator(final Collection<QueryResult> queryResults, final FederateSemiJoinKeyCollector keyCollector) {
         this.queryResults.addAll(queryResults);
+        this.keyCollector = keyCollector;
         iterator = this.queryResults.iterator();
         currentResultSet = iterator.next();
     }
@@ -67,6 +70,7 @@ public final class FederateRowEnumerator implements Enumerator<Object[]> {
         }
         if (!iterator.hasNext()) {
             currentRow = null;
+            keyCollector.complete();
             return false;
         }
         currentResultSet = iterator.next();
@@ -79,6 +83,7 @@ public final class FederateRowEnumerator implements Enumerator<Object[]> {
         for (int i = 0; i < columnCount; i++) {
             currentRow[i] = currentResultSet.getValue(i + 1, Object.class);
         }
+        keyCollector.collect(currentRow);
     }
     
     @Override
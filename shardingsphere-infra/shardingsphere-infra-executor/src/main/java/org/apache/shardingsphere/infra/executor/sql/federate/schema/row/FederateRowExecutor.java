@@ -37,8 +37,13 @@ import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetad
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -57,8 +62,14 @@ public final class FederateRowExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    private final Collection<FederateSemiJoinKey> semiJoinKeys;
+    
+    private final Map<String, Collection<Object>> completedKeyValues = new ConcurrentHashMap<>();
+    
     /**
      * Execute.
+     * 
+     * <p>Rows are restricted to key values of semi join keys whose provider table is already scanned completely.</p>
      *
      * @param metadata metadata
      * @param root root
@@ -68,7 +79,7 @@ public final class FederateRowExecutor {
      */
     public Collection<QueryResult> execute(final FederateTableMetadata metadata, final DataContext root, final List<RexNode> filters, final int[] projects) {
         FederateExecutionContextGenerator generator = new FederateExecutionContextGenerator(metadata.getName(), routeExecutionContext, 
-                new FederateExecutionSQLGenerator(root, filters, projects, metadata.getColumnNames()));
+                new FederateExecutionSQLGenerator(root, filters, projects, metadata.getColumnNames(), getKeyValues(metadata.getName())));
         return execute(generator.generate());
     }
     
@@ -85,4 +96,39 @@ public final class FederateRowExecutor {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    /**
+     * Create semi join key collector for rows of table scan.
+     *
+     * @param metadata metadata
+     * @param projects projects
+     * @return semi join key collector
+     */
+    public FederateSemiJoinKeyCollector createKeyCollector(final FederateTableMetadata metadata, final int[] projects) {
+        List<String> columnNames = null == projects ? metadata.getColumnNames() : Arrays.stream(projects).mapToObj(metadata.getColumnNames()::get).collect(Collectors.toList());
+        Map<Integer, String> keyColumns = new HashMap<>();
+        for (FederateSemiJoinKey each : semiJoinKeys) {
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (each.getProviderTable().equalsIgnoreCase(metadata.getName()) && each.getProviderColumn().equalsIgnoreCase(columnNames.get(i))) {
+                    keyColumns.put(i, getKeyName(each.getProviderTable(), each.getProviderColumn()));
+                }
+            }
+        }
+        return new FederateSemiJoinKeyCollector(keyColumns, completedKeyValues);
+    }
+    
+    private Map<String, Collection<Object>> getKeyValues(final String table) {
+        Map<String, Collection<Object>> result = new LinkedHashMap<>();
+        for (FederateSemiJoinKey each : semiJoinKeys) {
+            Collection<Object> keyValues = completedKeyValues.get(getKeyName(each.getProviderTable(), each.getProviderColumn()));
+            if (each.getConsumerTable().equalsIgnoreCase(table) && null != keyValues && !result.containsKey(each.getConsumerColumn())) {
+                result.put(each.getConsumerColumn(), keyValues);
+            }
+        }
+        return result;
+    }
+    
+    private String getKeyName(final String table, final String column) {
+        return String.join(".", table, column).toLowerCase();
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Federate semi join key collector, which collects key values of rows returned by a table scan.
+ * 
+ * <p>Key values are published only after the scan returns all rows, and are dropped if there are too many of them.</p>
+ */
+public final class FederateSemiJoinKeyCollector {
+    
+    private static final int MAX_KEY_VALUE_COUNT = 1000;
+    
+    private final Map<Integer, String> keyColumns;
+    
+    private final Map<String, Collection<Object>> completedKeyValues;
+    
+    private final Map<Integer, Collection<Object>> keyValues = new HashMap<>();
+    
+    public FederateSemiJoinKeyCollector(final Map<Integer, String> keyColumns, final Map<String, Collection<Object>> completedKeyValues) {
+        this.keyColumns = keyColumns;
+        this.completedKeyValues = completedKeyValues;
+        for (Integer each : keyColumns.keySet()) {
+            keyValues.put(each, new LinkedHashSet<>());
+        }
+    }
+    
+    /**
+     * Collect key values of row.
+     *
+     * @param row row
+     */
+    public void collect(final Object[] row) {
+        for (Entry<Integer, String> entry : keyColumns.entrySet()) {
+            Collection<Object> values = keyValues.get(entry.getKey());
+            if (null != values && null != row[entry.getKey()]) {
+                values.add(row[entry.getKey()]);
+                if (values.size() > MAX_KEY_VALUE_COUNT) {
+                    keyValues.remove(entry.getKey());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Complete collecting after all rows are returned.
+     */
+    public void complete() {
+        for (Entry<Integer, Collection<Object>> entry : keyValues.entrySet()) {
+            completedKeyValues.put(keyColumns.get(entry.getKey()), entry.getValue());
+        }
+        keyValues.clear();
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
+import java.util.function.Supplier;
+
 /**
  * Abstract Federate table.
  */
@@ -35,7 +37,12 @@ public abstract class AbstractFederateTable extends AbstractTable {
     
     private final FederateTableMetadata metadata;
     
-    private final FederateRowExecutor executor;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<FederateRowExecutor> executorSupplier;
+    
+    protected final FederateRowExecutor getExecutor() {
+        return executorSupplier.get();
+    }
     
     @Override
     public final RelDataType getRowType(final RelDataTypeFactory typeFactory) {
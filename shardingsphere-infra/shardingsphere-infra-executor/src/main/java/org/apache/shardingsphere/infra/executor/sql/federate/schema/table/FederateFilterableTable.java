@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.Federate
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Federate filterable Table.
@@ -35,8 +36,8 @@ import java.util.List;
  */
 public final class FederateFilterableTable extends AbstractFederateTable implements ProjectableFilterableTable {
     
-    public FederateFilterableTable(final FederateTableMetadata metadata, final FederateRowExecutor executor) {
-        super(metadata, executor);
+    public FederateFilterableTable(final FederateTableMetadata metadata, final Supplier<FederateRowExecutor> executorSupplier) {
+        super(metadata, executorSupplier);
     }
     
     @Override
@@ -44,7 +45,8 @@ public final class FederateFilterableTable extends AbstractFederateTable impleme
         return new AbstractEnumerable<Object[]>() {
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new FederateRowEnumerator(getExecutor().execute(getMetadata(), root, filters, projects));
+                FederateRowExecutor executor = getExecutor();
+                return new FederateRowEnumerator(executor.execute(getMetadata(), root, filters, projects), executor.createKeyCollector(getMetadata(), projects));
             }
         };
     }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import com.google.common.base.Joiner;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.NlsString;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Federate execution filter generator.
+ * 
+ * <p>Translates the filters Calcite offers to a table scan into a condition of the actual SQL, so every shard only returns candidate rows.
+ * Filters which can not be translated exactly are skipped, and Calcite still evaluates all filters on the returned rows.
+ * Strings are only compared by equality, because database collations may ignore case or trailing spaces,
+ * so other comparisons could drop rows which Calcite keeps, while equality only returns more rows.</p>
+ */
+@RequiredArgsConstructor
+public final class FederateExecutionFilterGenerator {
+    
+    private static final RexBuilder REX_BUILDER = new RexBuilder(new JavaTypeFactoryImpl());
+    
+    private static final Map<SqlKind, String> COMPARISON_OPERATORS = new EnumMap<>(SqlKind.class);
+    
+    private final DataContext root;
+    
+    private final List<String> columnNames;
+    
+    static {
+        COMPARISON_OPERATORS.put(SqlKind.EQUALS, "=");
+        COMPARISON_OPERATORS.put(SqlKind.NOT_EQUALS, "<>");
+        COMPARISON_OPERATORS.put(SqlKind.LESS_THAN, "<");
+        COMPARISON_OPERATORS.put(SqlKind.LESS_THAN_OR_EQUAL, "<=");
+        COMPARISON_OPERATORS.put(SqlKind.GREATER_THAN, ">");
+        COMPARISON_OPERATORS.put(SqlKind.GREATER_THAN_OR_EQUAL, ">=");
+    }
+    
+    /**
+     * Generate condition.
+     *
+     * @param filters filters
+     * @return condition
+     */
+    public Optional<String> generate(final List<RexNode> filters) {
+        if (null == filters || filters.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> conditions = new LinkedList<>();
+        for (RexNode each : filters) {
+            generateCondition(RexUtil.expandSearch(REX_BUILDER, null, each)).ifPresent(conditions::add);
+        }
+        return conditions.isEmpty() ? Optional.empty() : Optional.of(Joiner.on(" AND ").join(conditions));
+    }
+    
+    /**
+     * Generate IN condition.
+     *
+     * @param columnName column name
+     * @param values values
+     * @return IN condition
+     */
+    public Optional<String> generateInCondition(final String columnName, final Collection<Object> values) {
+        if (values.isEmpty() || !columnNames.contains(columnName)) {
+            return Optional.empty();
+        }
+        Collection<String> valueTexts = new LinkedList<>();
+        for (Object each : values) {
+            Optional<String> valueText = formatValue(each);
+            if (!valueText.isPresent()) {
+                return Optional.empty();
+            }
+            valueTexts.add(valueText.get());
+        }
+        return Optional.of(columnName + " IN (" + Joiner.on(", ").join(valueTexts) + ")");
+    }
+    
+    private Optional<String> generateCondition(final RexNode node) {
+        if (!(node instanceof RexCall)) {
+            return Optional.empty();
+        }
+        RexCall call = (RexCall) node;
+        switch (call.getKind()) {
+            case AND:
+                return generateAndCondition(call.getOperands());
+            case OR:
+                return generateOrCondition(call.getOperands());
+            case IS_NULL:
+                return generateColumn(call.getOperands().get(0)).map(optional -> optional + " IS NULL");
+            case IS_NOT_NULL:
+                return generateColumn(call.getOperands().get(0)).map(optional -> optional + " IS NOT NULL");
+            default:
+                return COMPARISON_OPERATORS.containsKey(call.getKind()) ? generateComparisonCondition(call) : Optional.empty();
+        }
+    }
+    
+    private Optional<String> generateAndCondition(final List<RexNode> operands) {
+        Collection<String> conditions = new LinkedList<>();
+        for (RexNode each : operands) {
+            generateCondition(each).ifPresent(conditions::add);
+        }
+        return conditions.isEmpty() ? Optional.empty() : Optional.of("(" + Joiner.on(" AND ").join(conditions) + ")");
+    }
+    
+    private Optional<String> generateOrCondition(final List<RexNode> operands) {
+        Collection<String> conditions = new LinkedList<>();
+        for (RexNode each : operands) {
+            Optional<String> condition = generateCondition(each);
+            if (!condition.isPresent()) {
+                return Optional.empty();
+            }
+            conditions.add(condition.get());
+        }
+        return Optional.of("(" + Joiner.on(" OR ").join(conditions) + ")");
+    }
+    
+    private Optional<String> generateComparisonCondition(final RexCall call) {
+        RexNode left = call.getOperands().get(0);
+        RexNode right = call.getOperands().get(1);
+        if (left instanceof RexInputRef) {
+            return generateComparisonCondition(left, call.getKind(), right);
+        }
+        if (right instanceof RexInputRef) {
+            return generateComparisonCondition(right, call.getKind().reverse(), left);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<String> generateComparisonCondition(final RexNode column, final SqlKind kind, final RexNode value) {
+        Optional<String> columnName = generateColumn(column);
+        Optional<Object> actualValue = getValue(value);
+        if (!columnName.isPresent() || !actualValue.isPresent() || SqlKind.EQUALS != kind && isString(actualValue.get())) {
+            return Optional.empty();
+        }
+        return formatValue(actualValue.get()).map(optional -> String.join(" ", columnName.get(), COMPARISON_OPERATORS.get(kind), optional));
+    }
+    
+    private Optional<String> generateColumn(final RexNode node) {
+        if (!(node instanceof RexInputRef)) {
+            return Optional.empty();
+        }
+        int index = ((RexInputRef) node).getIndex();
+        return index < columnNames.size() ? Optional.of(columnNames.get(index)) : Optional.empty();
+    }
+    
+    private Optional<Object> getValue(final RexNode node) {
+        if (node instanceof RexLiteral) {
+            return Optional.ofNullable(((RexLiteral) node).getValue());
+        }
+        if (node instanceof RexDynamicParam) {
+            return Optional.ofNullable(root.get("?" + ((RexDynamicParam) node).getIndex()));
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isString(final Object value) {
+        return value instanceof NlsString || value instanceof String;
+    }
+    
+    private Optional<String> formatValue(final Object value) {
+        if (value instanceof NlsString) {
+            return formatValue(((NlsString) value).getValue());
+        }
+        if (value instanceof String) {
+            String text = (String) value;
+            return text.indexOf('\'') < 0 && text.indexOf('\\') < 0 ? Optional.of("'" + text + "'") : Optional.empty();
+        }
+        if (value instanceof BigDecimal) {
+            return Optional.of(((BigDecimal) value).toPlainString());
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return Optional.of(value.toString());
+        }
+        return Optional.empty();
+    }
+}
@@ -18,29 +18,44 @@
 package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
 
 import com.google.common.base.Joiner;
-import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.rex.RexNode;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 /**
  * Federate execution sql generator.
  */
-@RequiredArgsConstructor
 public final class FederateExecutionSQLGenerator {
     
-    private final DataContext root;
-    
-    private final List<RexNode> filters;
-    
     private final int[] projects;
     
     private final List<String> columnNames;
     
+    private final String whereClause;
+    
+    public FederateExecutionSQLGenerator(final DataContext root, final List<RexNode> filters, final int[] projects, final List<String> columnNames,
+                                         final Map<String, Collection<Object>> keyValues) {
+        this.projects = projects;
+        this.columnNames = columnNames;
+        whereClause = generateWhereClause(new FederateExecutionFilterGenerator(root, columnNames), filters, keyValues);
+    }
+    
+    private String generateWhereClause(final FederateExecutionFilterGenerator filterGenerator, final List<RexNode> filters, final Map<String, Collection<Object>> keyValues) {
+        Collection<String> conditions = new LinkedList<>();
+        filterGenerator.generate(filters).ifPresent(conditions::add);
+        for (Entry<String, Collection<Object>> entry : keyValues.entrySet()) {
+            filterGenerator.generateInCondition(entry.getKey(), entry.getValue()).ifPresent(conditions::add);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + Joiner.on(" AND ").join(conditions);
+    }
+    
     /**
      * Generate sql.
      *
@@ -48,8 +63,7 @@ public final class FederateExecutionSQLGenerator {
      * @return sql
      */
     public String generate(final String table) {
-        // TODO generate sql with filters
         Collection<String> actualColumnNames = null == projects ? columnNames : Arrays.stream(projects).mapToObj(columnNames::get).collect(Collectors.toList());
-        return String.format("SELECT %s FROM %s", Joiner.on(", ").join(actualColumnNames), table);
+        return String.format("SELECT %s FROM %s%s", Joiner.on(", ").join(actualColumnNames), table, whereClause);
     }
 }
@@ -63,7 +63,10 @@ public final class ExecuteProcessEngine {
      * Clean.
      */
     public static void clean() {
-        ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        Object executionID = ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        if (null != executionID && !HANDLERS.isEmpty()) {
+            HANDLERS.iterator().next().reportClean(executionID.toString());
+        }
     }
     
     /**
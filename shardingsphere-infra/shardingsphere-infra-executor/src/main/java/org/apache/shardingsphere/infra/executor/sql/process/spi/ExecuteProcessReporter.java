@@ -49,4 +49,11 @@ public interface ExecuteProcessReporter {
      * @param constants constants
      */
     void report(String executionID, ExecuteProcessConstants constants);
+    
+    /**
+     * Report this task on cleaning.
+     * @param executionID execution ID
+     */
+    default void reportClean(final String executionID) {
+    }
 }
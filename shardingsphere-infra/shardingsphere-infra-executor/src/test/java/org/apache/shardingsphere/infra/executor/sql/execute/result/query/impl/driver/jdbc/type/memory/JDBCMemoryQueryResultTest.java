@@ -36,7 +36,9 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -317,6 +319,35 @@ public final class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetValuesOfMultipleRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        Boolean[] hasNext = new Boolean[100];
+        Arrays.fill(hasNext, true);
+        hasNext[99] = false;
+        when(resultSet.next()).thenReturn(true, hasNext);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        AtomicInteger rowIndex = new AtomicInteger();
+        when(resultSet.getLong(1)).thenAnswer(invocation -> (long) rowIndex.get());
+        when(resultSet.getString(2)).thenAnswer(invocation -> 0 == rowIndex.get() % 7 ? null : "中文_" + rowIndex.get());
+        when(resultSet.getBigDecimal(3)).thenAnswer(invocation -> new BigDecimal(rowIndex.getAndIncrement()).movePointLeft(2));
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, long.class), is((long) i));
+            assertThat(actual.getValue(2, String.class), is(0 == i % 7 ? null : "中文_" + i));
+            assertThat(actual.getValue(3, BigDecimal.class), is(new BigDecimal(i).movePointLeft(2)));
+        }
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+    }
+    
     private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true, false);
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DecimalJDBCMemoryColumnTest {
+    
+    @Test
+    public void assertLoadAndGetValue() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        BigDecimal largeValue = new BigDecimal("-123456789012345678901234567890.123456789");
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.10"), null, largeValue, new BigDecimal("1E+3"));
+        DecimalJDBCMemoryColumn column = new DecimalJDBCMemoryColumn(new JDBCMemoryByteArena());
+        for (int i = 0; i < 4; i++) {
+            column.load(resultSet, 1);
+        }
+        assertThat(column.getValue(0), is(new BigDecimal("1.10")));
+        assertNull(column.getValue(1));
+        assertThat(column.getValue(2), is(largeValue));
+        assertThat(column.getValue(3), is(new BigDecimal("1E+3")));
+    }
+    
+    @Test
+    public void assertLoadWasNull() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBigDecimal(1)).thenReturn(BigDecimal.ZERO);
+        when(resultSet.wasNull()).thenReturn(true);
+        DecimalJDBCMemoryColumn column = new DecimalJDBCMemoryColumn(new JDBCMemoryByteArena());
+        column.load(resultSet, 1);
+        assertNull(column.getValue(0));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class JDBCMemoryByteArenaTest {
+    
+    @Test
+    public void assertAppendBytes() {
+        JDBCMemoryByteArena arena = new JDBCMemoryByteArena();
+        byte[] value = new byte[2048];
+        value[2047] = 1;
+        assertThat(arena.append(new byte[]{1, 2}), is(0));
+        assertThat(arena.append(value), is(2));
+        assertThat(arena.getBytes(0, 2), is(new byte[]{1, 2}));
+        assertThat(arena.getBytes(2, 2048), is(value));
+        assertThat(arena.getSize(), is(2050));
+    }
+    
+    @Test
+    public void assertAppendString() {
+        JDBCMemoryByteArena arena = new JDBCMemoryByteArena();
+        assertThat(arena.append("foo_ä"), is(0));
+        assertThat(arena.append("bar_中文😀"), is(5));
+        assertThat(arena.getString(0, 5, true), is("foo_ä"));
+        assertThat(arena.getString(5, 8, false), is("bar_中文😀"));
+        assertThat(arena.getSize(), is(21));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAppendExceedsMaxCapacity() {
+        JDBCMemoryByteArena arena = new JDBCMemoryByteArena(4);
+        arena.append(new byte[]{1, 2, 3});
+        arena.append(new byte[]{4, 5});
+    }
+    
+    @Test
+    public void assertIsLatin1() {
+        assertTrue(JDBCMemoryByteArena.isLatin1("foo_ä"));
+        assertFalse(JDBCMemoryByteArena.isLatin1("中文"));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringJDBCMemoryColumnTest {
+    
+    @Test
+    public void assertLoadAndGetValue() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo", null, "中文", "");
+        StringJDBCMemoryColumn column = new StringJDBCMemoryColumn(new JDBCMemoryByteArena());
+        for (int i = 0; i < 100; i++) {
+            column.load(resultSet, 1);
+        }
+        assertThat(column.getValue(0), is("foo"));
+        assertNull(column.getValue(1));
+        assertThat(column.getValue(2), is("中文"));
+        assertThat(column.getValue(3), is(""));
+        assertThat(column.getValue(99), is(""));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.execute;
+
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class FederatePlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.order_id = ?";
+    
+    @Test
+    public void assertGetInstance() {
+        FederateSchemaMetadata schemaMetadata = new FederateSchemaMetadata("federate_schema", Collections.emptyMap());
+        assertThat(FederatePlanCache.getInstance(schemaMetadata), is(FederatePlanCache.getInstance(schemaMetadata)));
+    }
+    
+    @Test
+    public void assertPollOfferedStatement() throws SQLException {
+        FederatePlanCache planCache = new FederatePlanCache();
+        assertFalse(planCache.poll(SQL, 0L).isPresent());
+        FederateCachedStatement statement = createCachedStatement(0L);
+        planCache.offer(statement);
+        Optional<FederateCachedStatement> actual = planCache.poll(SQL, 0L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(statement));
+        assertFalse(planCache.poll(SQL, 0L).isPresent());
+        verify(statement.getConnection(), never()).close();
+    }
+    
+    @Test
+    public void assertPollAfterSchemaVersionChanged() throws SQLException {
+        FederatePlanCache planCache = new FederatePlanCache();
+        FederateCachedStatement statement = createCachedStatement(0L);
+        planCache.offer(statement);
+        assertFalse(planCache.poll(SQL, 1L).isPresent());
+        verify(statement.getConnection()).close();
+    }
+    
+    @Test
+    public void assertOfferStaleStatement() throws SQLException {
+        FederatePlanCache planCache = new FederatePlanCache();
+        planCache.poll(SQL, 1L);
+        FederateCachedStatement statement = createCachedStatement(0L);
+        planCache.offer(statement);
+        assertFalse(planCache.poll(SQL, 1L).isPresent());
+        verify(statement.getConnection()).close();
+    }
+    
+    private FederateCachedStatement createCachedStatement(final long schemaVersion) {
+        return new FederateCachedStatement(SQL, schemaVersion, mock(Connection.class), mock(PreparedStatement.class), Collections.emptyList(), new AtomicReference<>());
+    }
+}
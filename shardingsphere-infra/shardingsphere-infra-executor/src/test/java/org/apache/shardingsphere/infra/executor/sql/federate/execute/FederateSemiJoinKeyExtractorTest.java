@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.execute;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateSemiJoinKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederateSemiJoinKeyExtractorTest {
+    
+    private RelBuilder relBuilder;
+    
+    @Before
+    public void setUp() {
+        SchemaPlus schema = Frameworks.createRootSchema(true);
+        schema.add("t_order", createTable("order_id", "user_id"));
+        schema.add("t_order_item", createTable("item_id", "order_id"));
+        relBuilder = RelBuilder.create(Frameworks.newConfigBuilder().defaultSchema(schema).build());
+    }
+    
+    private AbstractTable createTable(final String... columnNames) {
+        return new AbstractTable() {
+            
+            @Override
+            public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+                RelDataTypeFactory.Builder result = typeFactory.builder();
+                for (String each : columnNames) {
+                    result.add(each, SqlTypeName.INTEGER);
+                }
+                return result.build();
+            }
+        };
+    }
+    
+    @Test
+    public void assertExtractInnerJoin() {
+        Collection<FederateSemiJoinKey> actual = FederateSemiJoinKeyExtractor.extract(createJoin(JoinRelType.INNER));
+        assertThat(actual.size(), is(2));
+        assertThat(actual, hasItems(new FederateSemiJoinKey("t_order", "order_id", "t_order_item", "order_id"), new FederateSemiJoinKey("t_order_item", "order_id", "t_order", "order_id")));
+    }
+    
+    @Test
+    public void assertExtractLeftJoin() {
+        Collection<FederateSemiJoinKey> actual = FederateSemiJoinKeyExtractor.extract(createJoin(JoinRelType.LEFT));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(new FederateSemiJoinKey("t_order", "order_id", "t_order_item", "order_id")));
+    }
+    
+    @Test
+    public void assertExtractFullJoin() {
+        assertTrue(FederateSemiJoinKeyExtractor.extract(createJoin(JoinRelType.FULL)).isEmpty());
+    }
+    
+    @Test
+    public void assertExtractJoinWithTableScannedTwice() {
+        RelNode rel = relBuilder.scan("t_order").scan("t_order_item").join(JoinRelType.INNER, "order_id").scan("t_order")
+                .join(JoinRelType.INNER, relBuilder.equals(relBuilder.field(2, 0, "user_id"), relBuilder.field(2, 1, "user_id"))).build();
+        assertTrue(FederateSemiJoinKeyExtractor.extract(rel).isEmpty());
+    }
+    
+    @Test
+    public void assertExtractJoinOnExpression() {
+        RelNode rel = relBuilder.scan("t_order").scan("t_order_item")
+                .join(JoinRelType.INNER, relBuilder.equals(relBuilder.call(SqlStdOperatorTable.PLUS, relBuilder.field(2, 0, "order_id"), relBuilder.literal(1)),
+                        relBuilder.field(2, 1, "order_id"))).build();
+        assertTrue(FederateSemiJoinKeyExtractor.extract(rel).isEmpty());
+    }
+    
+    private RelNode createJoin(final JoinRelType joinType) {
+        return relBuilder.scan("t_order").scan("t_order_item").project(relBuilder.field("order_id"), relBuilder.field("item_id"))
+                .join(joinType, relBuilder.equals(relBuilder.field(2, 0, "order_id"), relBuilder.field(2, 1, "order_id"))).build();
+    }
+}
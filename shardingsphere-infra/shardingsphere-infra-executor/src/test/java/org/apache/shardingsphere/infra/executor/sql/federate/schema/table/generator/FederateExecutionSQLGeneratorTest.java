@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederateExecutionSQLGeneratorTest {
+    
+    private final JavaTypeFactoryImpl typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+    
+    private final RelDataType varcharType = typeFactory.createSqlType(SqlTypeName.VARCHAR);
+    
+    @Test
+    public void assertGenerateWithoutFilters() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(
+                mock(DataContext.class), Collections.emptyList(), new int[]{1}, Arrays.asList("order_id", "user_id"), Collections.emptyMap());
+        assertThat(generator.generate("t_order_0"), is("SELECT user_id FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithComparisonFilters() {
+        RexNode equals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 1), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        RexNode reversedLessThan = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeExactLiteral(BigDecimal.ONE), rexBuilder.makeInputRef(intType, 0));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(
+                mock(DataContext.class), Arrays.asList(equals, reversedLessThan), null, Arrays.asList("order_id", "user_id"), Collections.emptyMap());
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, user_id FROM t_order_0 WHERE user_id = 10 AND order_id > 1"));
+    }
+    
+    @Test
+    public void assertGenerateWithDynamicParameterAndOrFilter() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn("init");
+        RexNode status = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeDynamicParam(varcharType, 0));
+        RexNode orderIds = rexBuilder.makeCall(SqlStdOperatorTable.OR,
+                rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeExactLiteral(BigDecimal.ONE)),
+                rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeExactLiteral(BigDecimal.TEN)));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(
+                root, Arrays.asList(status, orderIds), new int[]{0}, Arrays.asList("order_id", "user_id", "status"), Collections.emptyMap());
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status = 'init' AND (order_id = 1 OR order_id = 10)"));
+    }
+    
+    @Test
+    public void assertGenerateWithUnsupportedFilters() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn("it's");
+        RexNode quoted = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 1), rexBuilder.makeDynamicParam(varcharType, 0));
+        RexNode partialOr = rexBuilder.makeCall(SqlStdOperatorTable.OR,
+                rexBuilder.makeCall(SqlStdOperatorTable.IS_NULL, rexBuilder.makeInputRef(intType, 0)), quoted);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(root, Arrays.asList(quoted, partialOr), null, Arrays.asList("order_id", "status"), Collections.emptyMap());
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, status FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithStringComparisonFilters() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn("Init ");
+        RexNode equals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 1), rexBuilder.makeDynamicParam(varcharType, 0));
+        RexNode notEquals = rexBuilder.makeCall(SqlStdOperatorTable.NOT_EQUALS, rexBuilder.makeInputRef(varcharType, 1), rexBuilder.makeLiteral("Paid"));
+        RexNode lessThan = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(varcharType, 1), rexBuilder.makeLiteral("init "));
+        RexNode greaterThanOrEqual = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, rexBuilder.makeLiteral("INIT"), rexBuilder.makeInputRef(varcharType, 1));
+        RexNode orWithLessThan = rexBuilder.makeCall(SqlStdOperatorTable.OR,
+                rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeExactLiteral(BigDecimal.ONE)), lessThan);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(
+                root, Arrays.asList(equals, notEquals, lessThan, greaterThanOrEqual, orWithLessThan), null, Arrays.asList("order_id", "status"), Collections.emptyMap());
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, status FROM t_order_0 WHERE status = 'Init '"));
+    }
+    
+    @Test
+    public void assertGenerateWithSemiJoinKeyValues() {
+        RexNode equals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 1), rexBuilder.makeLiteral("init"));
+        Map<String, Collection<Object>> keyValues = new LinkedHashMap<>();
+        keyValues.put("order_id", Arrays.asList(1, 10L));
+        keyValues.put("status", Collections.singletonList("it's"));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(
+                mock(DataContext.class), Collections.singletonList(equals), null, Arrays.asList("order_id", "status"), keyValues);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, status FROM t_order_0 WHERE status = 'init' AND order_id IN (1, 10)"));
+    }
+}
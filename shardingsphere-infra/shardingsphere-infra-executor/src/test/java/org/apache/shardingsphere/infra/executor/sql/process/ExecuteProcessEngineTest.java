@@ -60,6 +60,7 @@ public final class ExecuteProcessEngineTest {
     public void assertClean() {
         ExecuteProcessEngine.clean();
         assertThat(ExecutorDataMap.getValue().size(), is(0));
+        assertThat(ExecuteProcessReporterFixture.ACTIONS.getLast(), is("Report this task on cleaning."));
     }
     
     private LogicSQL createLogicSQL() {
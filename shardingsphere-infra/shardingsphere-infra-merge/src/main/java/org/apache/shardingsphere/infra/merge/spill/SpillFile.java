@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.spill;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spill file, which saves merging rows into local temporary file with compact binary format.
+ *
+ * <p>
+ * Spill file should be deleted by {@link #delete()} when it is not used any more.
+ * Spill files of abandoned merged results are deleted by a daemon thread after they are garbage collected.
+ * </p>
+ */
+public final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INT = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte DOUBLE = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte BOOLEAN = 7;
+    
+    private static final byte STRING = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte SERIALIZABLE = 16;
+    
+    private static final ReferenceQueue<SpillFile> ABANDONED_SPILL_FILES = new ReferenceQueue<>();
+    
+    private static final Collection<SpillFileResource> RESOURCES = ConcurrentHashMap.newKeySet();
+    
+    static {
+        Thread cleanThread = new Thread(SpillFile::deleteAbandonedSpillFiles, "ShardingSphere-SpillFileCleaner");
+        cleanThread.setDaemon(true);
+        cleanThread.start();
+    }
+    
+    private final SpillFileResource resource;
+    
+    @Getter
+    private long rowCount;
+    
+    @Getter
+    private long byteSize;
+    
+    private SpillFile(final File file) throws IOException {
+        resource = new SpillFileResource(this, file);
+        RESOURCES.add(resource);
+    }
+    
+    private static void deleteAbandonedSpillFiles() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                ((SpillFileResource) ABANDONED_SPILL_FILES.remove()).release();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Create spill file in temporary directory.
+     *
+     * @return spill file
+     * @throws IOException IO exception
+     */
+    public static SpillFile create() throws IOException {
+        return new SpillFile(File.createTempFile("shardingsphere-merge-", ".spill"));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        Preconditions.checkState(null != resource.output, "Spill file is not writable.");
+        resource.output.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(each);
+        }
+        rowCount++;
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            resource.output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            resource.output.writeByte(INT);
+            resource.output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            resource.output.writeByte(LONG);
+            resource.output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            resource.output.writeByte(SHORT);
+            resource.output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            resource.output.writeByte(BYTE);
+            resource.output.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            resource.output.writeByte(DOUBLE);
+            resource.output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            resource.output.writeByte(FLOAT);
+            resource.output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            resource.output.writeByte(BOOLEAN);
+            resource.output.writeBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            resource.output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            resource.output.writeByte(BIG_DECIMAL);
+            resource.output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            resource.output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            resource.output.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (value instanceof Date) {
+            resource.output.writeByte(DATE);
+            resource.output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            resource.output.writeByte(TIME);
+            resource.output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            resource.output.writeByte(TIMESTAMP);
+            resource.output.writeLong(((Timestamp) value).getTime());
+            resource.output.writeInt(((Timestamp) value).getNanos());
+        } else if (java.util.Date.class == value.getClass()) {
+            resource.output.writeByte(UTIL_DATE);
+            resource.output.writeLong(((java.util.Date) value).getTime());
+        } else {
+            Preconditions.checkState(value instanceof Serializable, "Can not spill value of `%s`.", value.getClass().getName());
+            resource.output.writeByte(SERIALIZABLE);
+            writeBytes(serialize(value));
+        }
+    }
+    
+    private void writeBytes(final byte[] value) throws IOException {
+        resource.output.writeInt(value.length);
+        resource.output.write(value);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Finish write of rows spilled from memory and make spill file readable.
+     *
+     * @return byte size of spill file
+     * @throws IOException IO exception
+     */
+    public long finishWrite() throws IOException {
+        return switchToRead();
+    }
+    
+    /**
+     * Finish write of rows which are read from other spill files and make spill file readable.
+     *
+     * <p>Those rows have been counted when they were spilled from memory, so rewriting them is not a new spill.</p>
+     *
+     * @throws IOException IO exception
+     */
+    public void finishRewrite() throws IOException {
+        switchToRead();
+    }
+    
+    private long switchToRead() throws IOException {
+        Preconditions.checkState(null != resource.output, "Spill file is not writable.");
+        resource.output.close();
+        resource.output = null;
+        byteSize = resource.file.length();
+        resource.input = new DataInputStream(new BufferedInputStream(new FileInputStream(resource.file), BUFFER_SIZE));
+        return byteSize;
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if no more rows
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        Preconditions.checkState(null != resource.input, "Spill file is not readable.");
+        int columnCount;
+        try {
+            columnCount = resource.input.readInt();
+        } catch (final EOFException ignored) {
+            return null;
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue();
+        }
+        return result;
+    }
+    
+    private Object readValue() throws IOException {
+        byte type = resource.input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INT:
+                return resource.input.readInt();
+            case LONG:
+                return resource.input.readLong();
+            case SHORT:
+                return resource.input.readShort();
+            case BYTE:
+                return resource.input.readByte();
+            case DOUBLE:
+                return resource.input.readDouble();
+            case FLOAT:
+                return resource.input.readFloat();
+            case BOOLEAN:
+                return resource.input.readBoolean();
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                int scale = resource.input.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BYTES:
+                return readBytes();
+            case DATE:
+                return new Date(resource.input.readLong());
+            case TIME:
+                return new Time(resource.input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(resource.input.readLong());
+                timestamp.setNanos(resource.input.readInt());
+                return timestamp;
+            case UTIL_DATE:
+                return new java.util.Date(resource.input.readLong());
+            default:
+                return deserialize(readBytes());
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[resource.input.readInt()];
+        resource.input.readFully(result);
+        return result;
+    }
+    
+    private Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    /**
+     * Close and delete spill file.
+     */
+    public void delete() {
+        resource.release();
+    }
+    
+    private static final class SpillFileResource extends PhantomReference<SpillFile> {
+        
+        private final File file;
+        
+        private DataOutputStream output;
+        
+        private DataInputStream input;
+        
+        private SpillFileResource(final SpillFile spillFile, final File file) throws IOException {
+            super(spillFile, ABANDONED_SPILL_FILES);
+            this.file = file;
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        }
+        
+        private void release() {
+            try {
+                if (null != output) {
+                    output.close();
+                }
+                if (null != input) {
+                    input.close();
+                }
+            } catch (final IOException ignored) {
+            }
+            output = null;
+            input = null;
+            file.delete();
+            RESOURCES.remove(this);
+        }
+    }
+}
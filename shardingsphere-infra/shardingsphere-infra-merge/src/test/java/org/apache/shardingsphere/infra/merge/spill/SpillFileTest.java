@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.spill;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, 1, 2L, (short) 3, (byte) 4, 5.5d, 6.5f, true, "foo_中文", new BigDecimal("-7.08"), new BigInteger("123456789012345678901234567890"),
+            new byte[]{1, 2, 3}, new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), UUID.fromString("00000000-0000-0000-0000-000000000001")};
+        SpillFile spillFile = SpillFile.create();
+        try {
+            spillFile.write(row);
+            spillFile.write(new Object[]{"bar"});
+            assertTrue(spillFile.finishWrite() > 0L);
+            assertThat(spillFile.getRowCount(), is(2L));
+            Object[] actual = spillFile.read();
+            assertThat(actual.length, is(row.length));
+            for (int i = 0; i < row.length; i++) {
+                assertThat(actual[i], is(row[i]));
+            }
+            assertThat(spillFile.read(), is(new Object[]{"bar"}));
+            assertNull(spillFile.read());
+        } finally {
+            spillFile.delete();
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertWriteAfterFinishWrite() throws IOException {
+        SpillFile spillFile = SpillFile.create();
+        try {
+            spillFile.finishWrite();
+            spillFile.write(new Object[]{1});
+        } finally {
+            spillFile.delete();
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertWriteNotSerializableValue() throws IOException {
+        SpillFile spillFile = SpillFile.create();
+        try {
+            spillFile.write(new Object[]{new Object()});
+        } finally {
+            spillFile.delete();
+        }
+    }
+    
+    @Test
+    public void assertFinishRewrite() throws IOException {
+        SpillFile spillFile = SpillFile.create();
+        try {
+            spillFile.write(new Object[]{1});
+            spillFile.finishRewrite();
+            assertTrue(spillFile.getByteSize() > 0L);
+            assertThat(spillFile.read(), is(new Object[]{1}));
+        } finally {
+            spillFile.delete();
+        }
+    }
+    
+    @Test
+    public void assertDelete() throws IOException, ReflectiveOperationException {
+        SpillFile spillFile = SpillFile.create();
+        spillFile.write(new Object[]{1});
+        spillFile.finishWrite();
+        File file = getFile(spillFile);
+        spillFile.delete();
+        assertFalse(file.exists());
+    }
+    
+    @Test
+    public void assertDeleteAbandonedSpillFile() throws IOException, ReflectiveOperationException, InterruptedException {
+        File file = createAbandonedSpillFile();
+        for (int i = 0; i < 100 && file.exists(); i++) {
+            System.gc();
+            Thread.sleep(100L);
+        }
+        assertFalse(file.exists());
+    }
+    
+    private File createAbandonedSpillFile() throws IOException, ReflectiveOperationException {
+        SpillFile spillFile = SpillFile.create();
+        spillFile.write(new Object[]{1});
+        File result = getFile(spillFile);
+        assertTrue(result.exists());
+        return result;
+    }
+    
+    private File getFile(final SpillFile spillFile) throws ReflectiveOperationException {
+        Field resourceField = SpillFile.class.getDeclaredField("resource");
+        resourceField.setAccessible(true);
+        Object resource = resourceField.get(spillFile);
+        Field fileField = resource.getClass().getDeclaredField("file");
+        fileField.setAccessible(true);
+        return (File) fileField.get(resource);
+    }
+}
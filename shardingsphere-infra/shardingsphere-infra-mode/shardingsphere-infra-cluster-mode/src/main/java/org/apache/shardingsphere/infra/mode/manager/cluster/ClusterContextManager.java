@@ -467,6 +467,6 @@ public final class ClusterContextManager implements ContextManager {
     @Override
     public void close() throws Exception {
         metaDataContexts.getExecutorEngine().close();
-        registryCenter.getRepository().close();
+        registryCenter.close();
     }
 }
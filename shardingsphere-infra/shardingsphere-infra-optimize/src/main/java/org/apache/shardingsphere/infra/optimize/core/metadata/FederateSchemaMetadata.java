@@ -37,6 +37,8 @@ public final class FederateSchemaMetadata {
     
     private final Map<String, FederateTableMetadata> tables = new LinkedHashMap<>();
     
+    private volatile long version;
+    
     public FederateSchemaMetadata(final String name, final Map<String, TableMetaData> metaData) {
         this.name = name;
         for (Entry<String, TableMetaData> entry : metaData.entrySet()) {
@@ -52,6 +54,7 @@ public final class FederateSchemaMetadata {
     @Synchronized
     public void renew(final String tableName, final TableMetaData metaData) {
         tables.put(tableName, new FederateTableMetadata(tableName, metaData));
+        version++;
     }
     
     /**
@@ -61,5 +64,6 @@ public final class FederateSchemaMetadata {
     @Synchronized
     public void remove(final String tableName) {
         tables.remove(tableName);
+        version++;
     }
 }
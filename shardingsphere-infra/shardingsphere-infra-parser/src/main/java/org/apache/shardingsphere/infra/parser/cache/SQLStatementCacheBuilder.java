@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.cache.SQLCacheWeigher;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
@@ -38,7 +39,7 @@ public final class SQLStatementCacheBuilder {
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType));
+        return Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).maximumWeight(option.getMaximumWeight()).weigher(new SQLCacheWeigher<SQLStatement>())
+                .recordStats().build(new SQLStatementCacheLoader(databaseType));
     }
 }
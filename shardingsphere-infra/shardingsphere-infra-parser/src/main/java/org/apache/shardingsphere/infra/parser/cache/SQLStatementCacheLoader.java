@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -26,7 +26,7 @@ import javax.annotation.ParametersAreNonnullByDefault;
 /**
  * SQL statement cache loader.
  */
-public final class SQLStatementCacheLoader extends CacheLoader<String, SQLStatement> {
+public final class SQLStatementCacheLoader implements CacheLoader<String, SQLStatement> {
     
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -34,7 +35,7 @@ public final class SQLStatementParserEngine {
     public SQLStatementParserEngine(final String databaseType) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType);
         // TODO use props to configure cache option
-        sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L, 4), databaseType);
+        sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L), databaseType);
     }
     
     /**
@@ -45,6 +46,15 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get SQL statement cache stats.
+     *
+     * @return SQL statement cache stats
+     */
+    public CacheStats getCacheStats() {
+        return sqlStatementCache.stats();
     }
 }
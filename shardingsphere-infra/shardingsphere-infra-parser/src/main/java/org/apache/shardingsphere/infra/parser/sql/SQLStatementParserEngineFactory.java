@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -40,4 +42,15 @@ public final class SQLStatementParserEngineFactory {
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType) {
         return ENGINES.getOrDefault(databaseType, ENGINES.computeIfAbsent(databaseType, SQLStatementParserEngine::new));
     }
+    
+    /**
+     * Get SQL statement cache stats of all created engines.
+     *
+     * @return SQL statement cache stats, key is name of database type
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>(ENGINES.size(), 1);
+        ENGINES.forEach((key, value) -> result.put(key, value.getCacheStats()));
+        return result;
+    }
 }
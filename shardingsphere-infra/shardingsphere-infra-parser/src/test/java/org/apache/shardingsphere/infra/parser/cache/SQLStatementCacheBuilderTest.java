@@ -17,17 +17,44 @@
 
 package org.apache.shardingsphere.infra.parser.cache;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class SQLStatementCacheBuilderTest {
     
     @Test
     public void assertBuild() {
-        assertThat(SQLStatementCacheBuilder.build(new CacheOption(128, 1024L, 4), "MySQL"), isA(LoadingCache.class));
+        assertThat(SQLStatementCacheBuilder.build(new CacheOption(128, 1024L), "MySQL"), isA(LoadingCache.class));
+    }
+    
+    @Test
+    public void assertRecordStats() {
+        LoadingCache<String, SQLStatement> cache = SQLStatementCacheBuilder.build(new CacheOption(128, 1024L), "MySQL");
+        SQLStatement expected = mock(SQLStatement.class);
+        assertNull(cache.getIfPresent("SELECT 1"));
+        cache.put("SELECT 1", expected);
+        assertThat(cache.getIfPresent("SELECT 1"), sameInstance(expected));
+        assertThat(cache.stats().missCount(), is(1L));
+        assertThat(cache.stats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRecordEvictionStats() {
+        LoadingCache<String, SQLStatement> cache = SQLStatementCacheBuilder.build(new CacheOption(1, 1L), "MySQL");
+        cache.put("SELECT 1", mock(SQLStatement.class));
+        cache.put("SELECT 2", mock(SQLStatement.class));
+        cache.cleanUp();
+        assertThat(cache.estimatedSize(), is(1L));
+        assertThat(cache.stats().evictionCount(), is(1L));
+        assertThat(cache.stats().evictionWeight(), is(1L));
     }
 }
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * Abstract SQL builder.
@@ -39,38 +41,53 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         if (context.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
-        }
+        StringBuilder result = new StringBuilder(context.getSql().length());
+        appendSQL(result, context, (sql, sqlToken) -> sql.append(getSQLTokenText(sqlToken)));
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+    
+    /**
+     * Append SQL with SQL tokens.
+     * 
+     * @param result SQL to be appended
+     * @param context SQL rewrite context
+     * @param sqlTokenAppender appender of SQL token, composable SQL tokens are appended token by token
+     */
+    static void appendSQL(final StringBuilder result, final SQLRewriteContext context, final BiConsumer<StringBuilder, SQLToken> sqlTokenAppender) {
+        String sql = context.getSql();
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
+            result.append(sql);
+            return;
+        }
+        Collections.sort(sqlTokens);
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (each instanceof ComposableSQLToken) {
+                appendComposableSQLToken(result, sql, (ComposableSQLToken) each, sqlTokenAppender);
+            } else {
+                sqlTokenAppender.accept(result, each);
+            }
+            appendConjunctionText(result, sql, each, sqlTokens.size() - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex());
         }
-        return result.toString();
-    }
-
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
     }
     
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
+    private static void appendComposableSQLToken(final StringBuilder result, final String sql, final ComposableSQLToken composableSQLToken, final BiConsumer<StringBuilder, SQLToken> appender) {
+        SQLToken previous = null;
+        for (SQLToken each : composableSQLToken.getSqlTokens()) {
+            if (null != previous) {
+                appendConjunctionText(result, sql, previous, each.getStartIndex());
+            }
+            appender.accept(result, each);
+            previous = each;
+        }
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private static void appendConjunctionText(final StringBuilder result, final String sql, final SQLToken sqlToken, final int stopIndex) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        result.append(sql, Math.min(startIndex, sql.length()), stopIndex);
     }
 }
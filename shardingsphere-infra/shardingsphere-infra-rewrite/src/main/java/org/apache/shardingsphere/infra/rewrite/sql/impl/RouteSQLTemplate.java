@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route SQL template.
+ * 
+ * <p>Text which is the same for all route units is rendered only once, {@code RouteUnitAware} SQL tokens are rendered for each route unit.</p>
+ */
+public final class RouteSQLTemplate {
+    
+    private final List<String> fragments = new ArrayList<>();
+    
+    private final List<RouteUnitAware> routeUnitAwareSQLTokens = new ArrayList<>();
+    
+    private int lastSQLLength;
+    
+    public RouteSQLTemplate(final SQLRewriteContext context) {
+        StringBuilder currentFragment = new StringBuilder(context.getSql().length());
+        AbstractSQLBuilder.appendSQL(currentFragment, context, this::appendSQLToken);
+        fragments.add(currentFragment.toString());
+        for (String each : fragments) {
+            lastSQLLength += each.length();
+        }
+    }
+    
+    private void appendSQLToken(final StringBuilder currentFragment, final SQLToken sqlToken) {
+        if (sqlToken instanceof RouteUnitAware) {
+            fragments.add(currentFragment.toString());
+            currentFragment.setLength(0);
+            routeUnitAwareSQLTokens.add((RouteUnitAware) sqlToken);
+        } else {
+            currentFragment.append(sqlToken);
+        }
+    }
+    
+    /**
+     * Convert to SQL for route unit.
+     * 
+     * @param routeUnit route unit
+     * @return SQL
+     */
+    public String toSQL(final RouteUnit routeUnit) {
+        if (routeUnitAwareSQLTokens.isEmpty()) {
+            return fragments.get(0);
+        }
+        StringBuilder result = new StringBuilder(lastSQLLength);
+        for (int i = 0; i < routeUnitAwareSQLTokens.size(); i++) {
+            result.append(fragments.get(i)).append(routeUnitAwareSQLTokens.get(i).toString(routeUnit));
+        }
+        result.append(fragments.get(fragments.size() - 1));
+        lastSQLLength = result.length();
+        return result.toString();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -31,14 +32,22 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-public final class RouteSQLBuilderTest {
+public final class RouteSQLTemplateTest {
+    
+    @Test
+    public void assertToSQLWithoutSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Collections.emptyList());
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM tbl WHERE id=?"));
+    }
     
     @Test
     public void assertToSQLWithNormalSQLToken() {
         SQLRewriteContext context = mock(SQLRewriteContext.class);
         when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
-        assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM XXX WHERE id=?"));
     }
     
     @Test
@@ -46,10 +55,20 @@ public final class RouteSQLBuilderTest {
         SQLRewriteContext context = mock(SQLRewriteContext.class);
         when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16)));
-        assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM tbl_0 WHERE id=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithMixedSQLTokensForRouteUnits() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl JOIN tbl_ext WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new SQLTokenFixture(23, 29), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        RouteSQLTemplate routeSQLTemplate = new RouteSQLTemplate(context);
+        assertThat(routeSQLTemplate.toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM tbl_0 JOIN XXX WHERE id=?"));
+        assertThat(routeSQLTemplate.toSQL(createRouteUnit("tbl_1")), is("SELECT * FROM tbl_1 JOIN XXX WHERE id=?"));
     }
     
-    private RouteUnit createRouteUnit() {
-        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
     }
 }
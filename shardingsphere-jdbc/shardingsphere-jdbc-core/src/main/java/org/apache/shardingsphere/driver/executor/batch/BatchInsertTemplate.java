@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Batch insert template.
+ *
+ * <p>Rows of a single values insert differ in parameters only, so SQL rewritten for a route unit is reused by the following rows routed to the same route unit.
+ * Each row is still routed by its own sharding values.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertTemplate {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<RouteUnit, String> rewrittenSQLs = new HashMap<>();
+    
+    /**
+     * Judge whether logic SQL is supported by batch insert template.
+     *
+     * <p>Rules which rewrite parameters, such as encrypt, and generated keys change parameters row by row, so they are not supported.</p>
+     *
+     * @param logicSQL logic SQL
+     * @return supported or not
+     */
+    public boolean isSupported(final LogicSQL logicSQL) {
+        if (!metaData.getRuleMetaData().getRules().stream().allMatch(each -> each instanceof DataNodeContainedRule || each instanceof DataSourceContainedRule)) {
+            return false;
+        }
+        if (!(logicSQL.getSqlStatementContext() instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) logicSQL.getSqlStatementContext();
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getInsertValueContexts().size()
+                && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @param logicSQL logic SQL
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL) {
+        RouteContext routeContext = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+        ExecutionContext result = isRewritten(routeContext) ? createExecutionContext(logicSQL, routeContext) : rewrite(logicSQL, routeContext);
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
+            SQLLogger.logSQL(logicSQL, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), result);
+        }
+        return result;
+    }
+    
+    private boolean isRewritten(final RouteContext routeContext) {
+        return !routeContext.getRouteUnits().isEmpty() && routeContext.getRouteUnits().stream().allMatch(rewrittenSQLs::containsKey);
+    }
+    
+    private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final RouteContext routeContext) {
+        Collection<ExecutionUnit> executionUnits = new LinkedHashSet<>(routeContext.getRouteUnits().size(), 1);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            executionUnits.add(new ExecutionUnit(each.getDataSourceMapper().getActualName(),
+                    new SQLUnit(rewrittenSQLs.get(each), new ArrayList<>(logicSQL.getParameters()), getTableMappers(each))));
+        }
+        return new ExecutionContext(logicSQL, executionUnits, routeContext);
+    }
+    
+    private List<RouteMapper> getTableMappers(final RouteUnit routeUnit) {
+        return null == routeUnit.getTableMappers() ? Collections.emptyList() : new ArrayList<>(routeUnit.getTableMappers());
+    }
+    
+    private ExecutionContext rewrite(final LogicSQL logicSQL, final RouteContext routeContext) {
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(
+                metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        if (rewriteResult instanceof RouteSQLRewriteResult) {
+            cacheRewrittenSQLs(logicSQL.getParameters(), (RouteSQLRewriteResult) rewriteResult);
+        }
+        return new ExecutionContext(logicSQL, ExecutionContextBuilder.build(metaData, rewriteResult, logicSQL.getSqlStatementContext()), routeContext);
+    }
+    
+    private void cacheRewrittenSQLs(final List<Object> parameters, final RouteSQLRewriteResult rewriteResult) {
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            if (parameters.equals(entry.getValue().getParameters())) {
+                rewrittenSQLs.put(entry.getKey(), entry.getValue().getSql());
+            }
+        }
+    }
+}
@@ -35,14 +35,17 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+    private final int memoryQueryResultMaxBytes;
+    
+    protected ExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final int memoryQueryResultMaxBytes, final boolean isExceptionThrown) {
         super(databaseType, sqlStatement, isExceptionThrown);
+        this.memoryQueryResultMaxBytes = memoryQueryResultMaxBytes;
     }
     
     @Override
     protected final QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         ResultSet resultSet = executeQuery(sql, statement);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, memoryQueryResultMaxBytes);
     }
     
     @Override
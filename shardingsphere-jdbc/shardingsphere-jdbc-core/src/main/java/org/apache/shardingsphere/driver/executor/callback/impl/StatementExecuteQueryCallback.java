@@ -30,8 +30,8 @@ import java.sql.Statement;
  */
 public final class StatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public StatementExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(databaseType, sqlStatement, isExceptionThrown);
+    public StatementExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final int memoryQueryResultMaxBytes, final boolean isExceptionThrown) {
+        super(databaseType, sqlStatement, memoryQueryResultMaxBytes, isExceptionThrown);
     }
     
     @Override
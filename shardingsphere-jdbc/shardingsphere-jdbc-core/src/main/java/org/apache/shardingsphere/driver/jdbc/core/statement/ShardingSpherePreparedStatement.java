@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverJDBCExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertTemplate;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
@@ -122,6 +123,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final KernelProcessor kernelProcessor;
     
+    private final BatchInsertTemplate batchInsertTemplate;
+    
     private ExecutionContext executionContext;
     
     private ResultSet currentResultSet;
@@ -165,6 +168,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         federateExecutor = new FederateJDBCExecutor(connection.getSchemaName(), metaDataContexts.getOptimizeContextFactory(), metaDataContexts.getProps(), jdbcExecutor);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getSchemaName());
         kernelProcessor = new KernelProcessor();
+        batchInsertTemplate = new BatchInsertTemplate(metaDataContexts.getMetaData(connection.getSchemaName()), metaDataContexts.getProps());
     }
     
     @Override
@@ -202,7 +206,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         cacheStatements(executionGroupContext.getInputGroups());
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(),
                 new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+                        getMemoryQueryResultMaxBytes(), SQLExecutorExceptionHandler.isExceptionThrown()));
     }
     
     private List<QueryResult> executeFederatedQuery() throws SQLException {
@@ -210,10 +214,14 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             return Collections.emptyList();
         }
         PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(),
-                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+                 sqlStatement, getMemoryQueryResultMaxBytes(), SQLExecutorExceptionHandler.isExceptionThrown());
         return federateExecutor.executeQuery(executionContext, callback, createDriverExecutionPrepareEngine());
     }
     
+    private int getMemoryQueryResultMaxBytes() {
+        return metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_MEMORY_QUERY_RESULT_MAX_BYTES);
+    }
+    
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection, 
@@ -356,16 +364,24 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionContext createExecutionContext() {
         LogicSQL logicSQL = createLogicSQL();
-        SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(), 
-                metaDataContexts.getMetaData(connection.getSchemaName()).getRuleMetaData().getRules(), connection.getSchemaName(), metaDataContexts.getMetaDataMap(), null);
         ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getMetaData(connection.getSchemaName()), metaDataContexts.getProps());
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
     
+    private ExecutionContext createBatchExecutionContext() {
+        LogicSQL logicSQL = createLogicSQL();
+        ExecutionContext result = batchInsertTemplate.isSupported(logicSQL) ? batchInsertTemplate.generateExecutionContext(logicSQL)
+                : kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getMetaData(connection.getSchemaName()), metaDataContexts.getProps());
+        findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
+        return result;
+    }
+    
     private LogicSQL createLogicSQL() {
         List<Object> parameters = new ArrayList<>(getParameters());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, connection.getSchemaName());
+        SQLCheckEngine.check(sqlStatementContext.getSqlStatement(), parameters, 
+                metaDataContexts.getMetaData(connection.getSchemaName()).getRuleMetaData().getRules(), connection.getSchemaName(), metaDataContexts.getMetaDataMap(), null);
         return new LogicSQL(sqlStatementContext, sql, parameters);
     }
     
@@ -425,7 +441,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
-            executionContext = createExecutionContext();
+            executionContext = createBatchExecutionContext();
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
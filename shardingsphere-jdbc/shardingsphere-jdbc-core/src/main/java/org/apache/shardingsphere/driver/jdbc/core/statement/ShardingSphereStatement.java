@@ -172,7 +172,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+                executionContext.getSqlStatementContext().getSqlStatement(), getMemoryQueryResultMaxBytes(), SQLExecutorExceptionHandler.isExceptionThrown());
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
     }
     
@@ -181,10 +181,14 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return Collections.emptyList();
         }
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchemaName()).getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+                executionContext.getSqlStatementContext().getSqlStatement(), getMemoryQueryResultMaxBytes(), SQLExecutorExceptionHandler.isExceptionThrown());
         return federateExecutor.executeQuery(executionContext, callback, createDriverExecutionPrepareEngine());
     }
     
+    private int getMemoryQueryResultMaxBytes() {
+        return metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_MEMORY_QUERY_RESULT_MAX_BYTES);
+    }
+    
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, connection, 
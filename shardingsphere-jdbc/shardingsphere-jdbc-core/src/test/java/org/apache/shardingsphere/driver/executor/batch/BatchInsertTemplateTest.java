@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertTemplateTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(createBatchInsertTemplate(mock(DataNodeContainedRule.class), mock(DataSourceContainedRule.class)).isSupported(createLogicSQL(mockInsertStatementContext(1, false))));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithParameterRewriteRule() {
+        assertFalse(createBatchInsertTemplate(mock(DataNodeContainedRule.class), mock(ShardingSphereRule.class)).isSupported(createLogicSQL(mockInsertStatementContext(1, false))));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithSelectStatement() {
+        assertFalse(createBatchInsertTemplate(mock(DataNodeContainedRule.class)).isSupported(createLogicSQL(mock(SelectStatementContext.class))));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithMultipleValues() {
+        assertFalse(createBatchInsertTemplate(mock(DataNodeContainedRule.class)).isSupported(createLogicSQL(mockInsertStatementContext(2, false))));
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithGeneratedKey() {
+        assertFalse(createBatchInsertTemplate(mock(DataNodeContainedRule.class)).isSupported(createLogicSQL(mockInsertStatementContext(1, true))));
+    }
+    
+    private BatchInsertTemplate createBatchInsertTemplate(final ShardingSphereRule... rules) {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Arrays.asList(rules));
+        return new BatchInsertTemplate(metaData, new ConfigurationProperties(new Properties()));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final int valueCount, final boolean generated) {
+        InsertValueContext insertValueContext = mock(InsertValueContext.class);
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getInsertValueContexts()).thenReturn(Collections.nCopies(valueCount, insertValueContext));
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.of(new GeneratedKeyContext("id", generated)));
+        return result;
+    }
+    
+    private LogicSQL createLogicSQL(final SQLStatementContext<?> sqlStatementContext) {
+        return new LogicSQL(sqlStatementContext, "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)", Arrays.asList(1, 1));
+    }
+}
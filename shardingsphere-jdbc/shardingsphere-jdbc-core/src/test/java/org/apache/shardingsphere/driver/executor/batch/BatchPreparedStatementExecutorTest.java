@@ -40,8 +40,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -105,6 +107,25 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsGroupedByDataSourceAndSQL() {
+        BatchPreparedStatementExecutor executor = new BatchPreparedStatementExecutor(getConnection().getContextManager().getMetaDataContexts(),
+                new JDBCExecutor(getExecutorEngine(), false), DefaultSchema.LOGIC_NAME);
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", i), createExecutionUnit("ds_1", i)));
+        }
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        BatchExecutionUnit actualBatchExecutionUnit = executor.getBatchExecutionUnits().iterator().next();
+        assertThat(actualBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actualBatchExecutionUnit.getParameterSets().size(), is(4));
+        assertThat(actualBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(3), is(3));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final int parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(parameter))));
+    }
+    
     @Test(expected = SQLException.class)
     public void assertExecuteBatchForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -131,12 +152,12 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -144,7 +165,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
@@ -72,12 +72,16 @@ public final class DatabaseCommunicationEngine {
     
     private final KernelProcessor kernelProcessor;
     
+    private final BackendConnection backendConnection;
+    
     private List<QueryHeader> queryHeaders;
     
     private MergedResult mergedResult;
     
     private ProxyLockEngine proxyLockEngine;
     
+    private volatile boolean failed;
+    
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
@@ -86,6 +90,7 @@ public final class DatabaseCommunicationEngine {
         this.driverType = driverType;
         this.metaData = metaData;
         this.logicSQL = logicSQL;
+        this.backendConnection = backendConnection;
         proxySQLExecutor = new ProxySQLExecutor(driverType, backendConnection, this);
         kernelProcessor = new KernelProcessor();
         proxyLockEngine = new ProxyLockEngine(proxySQLExecutor, new MetadataRefreshEngine(metaData,
@@ -118,6 +123,17 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public ResponseHeader execute() throws SQLException {
+        try {
+            return doExecute();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failed = true;
+            throw ex;
+        }
+    }
+    
+    private ResponseHeader doExecute() throws SQLException {
         ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
@@ -194,7 +210,14 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        try {
+            return null != mergedResult && mergedResult.next();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failed = true;
+            throw ex;
+        }
     }
     
     /**
@@ -204,6 +227,17 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public QueryResponseRow getQueryResponseRow() throws SQLException {
+        try {
+            return createQueryResponseRow();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failed = true;
+            throw ex;
+        }
+    }
+    
+    private QueryResponseRow createQueryResponseRow() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
@@ -244,6 +278,7 @@ public final class DatabaseCommunicationEngine {
             try {
                 each.close();
             } catch (final SQLException ex) {
+                failed = true;
                 result.add(ex);
             }
         }
@@ -255,7 +290,7 @@ public final class DatabaseCommunicationEngine {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
-                each.close();
+                backendConnection.closeStatement(each, !failed);
             } catch (final SQLException ex) {
                 result.add(ex);
             }
@@ -23,6 +23,7 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -34,6 +35,8 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPI;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.PreparedStatementCache;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.PreparedStatementCacheRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.StatementMemoryStrictlyFetchSizeSetter;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -50,6 +53,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -81,6 +85,8 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private final Collection<DatabaseCommunicationEngine> inUseDatabaseCommunicationEngines = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
+    private final Map<Statement, PreparedStatementCache> borrowedStatementCaches = new ConcurrentHashMap<>();
+    
     private final Collection<ConnectionPostProcessor> connectionPostProcessors = new LinkedList<>();
     
     private final ResourceLock resourceLock = new ResourceLock();
@@ -194,8 +200,7 @@ public final class BackendConnection implements ExecutorJDBCManager {
     @Override
     public PreparedStatement createStorageResource(final String sql, final List<Object> parameters, 
                                                    final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(sql, connection, connectionMode, option);
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -210,6 +215,48 @@ public final class BackendConnection implements ExecutorJDBCManager {
         return result;
     }
     
+    private PreparedStatement prepareStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        int cacheSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (cacheSize <= 0 || !isPooledConnection()) {
+            return createPreparedStatement(sql, connection, option);
+        }
+        // Pooled connection handles close their statements when released, so cached statements are prepared on physical connections.
+        Connection physicalConnection = connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        PreparedStatementCache preparedStatementCache = PreparedStatementCacheRegistry.getCache(physicalConnection, cacheSize);
+        Optional<PreparedStatement> cachedPreparedStatement = preparedStatementCache.borrow(sql, connectionMode, option);
+        PreparedStatement result;
+        if (cachedPreparedStatement.isPresent()) {
+            result = cachedPreparedStatement.get();
+        } else {
+            result = createPreparedStatement(sql, physicalConnection, option);
+            preparedStatementCache.register(result, sql, connectionMode, option);
+        }
+        borrowedStatementCaches.put(result, preparedStatementCache);
+        return result;
+    }
+    
+    private PreparedStatement createPreparedStatement(final String sql, final Connection connection, final StatementOption option) throws SQLException {
+        return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private boolean isPooledConnection() {
+        return !transactionStatus.isInTransaction() || TransactionType.LOCAL == transactionStatus.getTransactionType();
+    }
+    
+    /**
+     * Close statement, or give it back to prepared statement cache if it is borrowed from cache.
+     *
+     * @param statement statement to be closed
+     * @param reusable whether statement can be reused
+     * @throws SQLException SQL exception
+     */
+    public void closeStatement(final Statement statement, final boolean reusable) throws SQLException {
+        PreparedStatementCache preparedStatementCache = borrowedStatementCaches.remove(statement);
+        if (null == preparedStatementCache || !preparedStatementCache.giveBack(statement, reusable)) {
+            statement.close();
+        }
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(getSchemaName()).getResource().getDatabaseType();
         if (fetchSizeSetters.containsKey(databaseType.getName())) {
@@ -295,6 +342,13 @@ public final class BackendConnection implements ExecutorJDBCManager {
      */
     public synchronized Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
+        for (Statement each : borrowedStatementCaches.keySet()) {
+            try {
+                closeStatement(each, false);
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
         for (Connection each : cachedConnections.values()) {
             try {
                 if (forceRollback && transactionStatus.isInTransaction()) {
@@ -81,7 +81,11 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet);
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            return new JDBCStreamQueryResult(resultSet);
+        }
+        int maxBytes = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_MEMORY_QUERY_RESULT_MAX_BYTES);
+        return new JDBCMemoryQueryResult(resultSet, maxBytes);
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * LRU cache of prepared statements for one backend connection.
+ *
+ * <p>
+ * A cached prepared statement is either idle in cache or borrowed by an executing SQL, so one prepared statement is never used by two SQLs at the same time.
+ * Idle prepared statements are closed when evicted, when schema altered, or when the cache is closed, and are dropped if closed by the backend connection.
+ * </p>
+ */
+public final class PreparedStatementCache {
+    
+    private final int maxSize;
+    
+    private final Map<CacheKey, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    
+    private final Map<Statement, CacheKey> borrowedStatements = new IdentityHashMap<>();
+    
+    private long version;
+    
+    private boolean closed;
+    
+    public PreparedStatementCache(final int maxSize) {
+        this.maxSize = maxSize;
+        version = PreparedStatementCacheInvalidator.getVersion();
+    }
+    
+    /**
+     * Borrow idle prepared statement.
+     *
+     * @param sql SQL
+     * @param connectionMode connection mode
+     * @param option statement option
+     * @return borrowed prepared statement, empty if not cached
+     */
+    public synchronized Optional<PreparedStatement> borrow(final String sql, final ConnectionMode connectionMode, final StatementOption option) {
+        checkVersion();
+        CacheKey key = new CacheKey(sql, connectionMode, option.isReturnGeneratedKeys());
+        PreparedStatement result = idleStatements.remove(key);
+        if (null == result || isClosed(result)) {
+            return Optional.empty();
+        }
+        borrowedStatements.put(result, key);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Register new created prepared statement as borrowed.
+     *
+     * @param preparedStatement prepared statement
+     * @param sql SQL
+     * @param connectionMode connection mode
+     * @param option statement option
+     */
+    public synchronized void register(final PreparedStatement preparedStatement, final String sql, final ConnectionMode connectionMode, final StatementOption option) {
+        if (!closed) {
+            borrowedStatements.put(preparedStatement, new CacheKey(sql, connectionMode, option.isReturnGeneratedKeys()));
+        }
+    }
+    
+    /**
+     * Give back borrowed prepared statement.
+     *
+     * @param statement statement
+     * @param reusable whether statement is reusable, statement will be closed if not reusable
+     * @return statement is borrowed from this cache or not
+     * @throws SQLException SQL exception
+     */
+    public synchronized boolean giveBack(final Statement statement, final boolean reusable) throws SQLException {
+        CacheKey key = borrowedStatements.remove(statement);
+        if (null == key) {
+            return false;
+        }
+        checkVersion();
+        if (closed || !reusable || idleStatements.containsKey(key)) {
+            statement.close();
+            return true;
+        }
+        try {
+            ((PreparedStatement) statement).clearParameters();
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        idleStatements.put(key, (PreparedStatement) statement);
+        if (idleStatements.size() > maxSize) {
+            Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+            PreparedStatement eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+        }
+        return true;
+    }
+    
+    private boolean isClosed(final Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (final SQLException ex) {
+            return true;
+        }
+    }
+    
+    private void checkVersion() {
+        long currentVersion = PreparedStatementCacheInvalidator.getVersion();
+        if (version != currentVersion) {
+            version = currentVersion;
+            closeIdleStatements();
+        }
+    }
+    
+    /**
+     * Get idle prepared statement size.
+     *
+     * @return idle prepared statement size
+     */
+    public synchronized int size() {
+        return idleStatements.size();
+    }
+    
+    /**
+     * Close cache and all idle prepared statements.
+     */
+    public synchronized void close() {
+        closed = true;
+        closeIdleStatements();
+    }
+    
+    private void closeIdleStatements() {
+        for (Entry<CacheKey, PreparedStatement> entry : idleStatements.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (final SQLException ignored) {
+            }
+        }
+        idleStatements.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final ConnectionMode connectionMode;
+        
+        private final boolean returnGeneratedKeys;
+    }
+}
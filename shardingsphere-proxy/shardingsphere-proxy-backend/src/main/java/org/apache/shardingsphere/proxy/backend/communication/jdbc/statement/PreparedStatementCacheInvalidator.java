@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache invalidator, which renews cache version when schema altered.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedStatementCacheInvalidator {
+    
+    private static final PreparedStatementCacheInvalidator INSTANCE = new PreparedStatementCacheInvalidator();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    static {
+        ShardingSphereEventBus.getInstance().register(INSTANCE);
+    }
+    
+    /**
+     * Get current cache version.
+     *
+     * @return current cache version
+     */
+    public static long getVersion() {
+        return INSTANCE.version.get();
+    }
+    
+    /**
+     * Renew cache version.
+     *
+     * @param event schema altered event
+     */
+    @Subscribe
+    public void renew(final SchemaAlteredEvent event) {
+        version.incrementAndGet();
+    }
+}
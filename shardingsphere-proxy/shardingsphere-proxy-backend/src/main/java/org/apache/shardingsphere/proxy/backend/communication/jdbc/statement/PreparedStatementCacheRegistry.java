@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Prepared statement cache registry.
+ *
+ * <p>
+ * Caches are registered by physical backend connection instead of pooled connection handle, so idle prepared statements survive connection release,
+ * and are reused by the next SQL which gets the same physical connection from pool. Caches of closed physical connections are removed when a new one is registered.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedStatementCacheRegistry {
+    
+    private static final Map<Connection, PreparedStatementCache> CACHES = new IdentityHashMap<>();
+    
+    /**
+     * Get prepared statement cache of physical connection.
+     *
+     * @param physicalConnection physical connection
+     * @param maxSize max size of new created cache
+     * @return prepared statement cache
+     */
+    public static PreparedStatementCache getCache(final Connection physicalConnection, final int maxSize) {
+        synchronized (CACHES) {
+            PreparedStatementCache result = CACHES.get(physicalConnection);
+            if (null == result) {
+                removeClosedConnections();
+                result = new PreparedStatementCache(maxSize);
+                CACHES.put(physicalConnection, result);
+            }
+            return result;
+        }
+    }
+    
+    private static void removeClosedConnections() {
+        Iterator<Entry<Connection, PreparedStatementCache>> iterator = CACHES.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Connection, PreparedStatementCache> entry = iterator.next();
+            if (isClosed(entry.getKey())) {
+                entry.getValue().close();
+                iterator.remove();
+            }
+        }
+    }
+    
+    private static boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException ex) {
+            return true;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -195,7 +196,7 @@ public final class DatabaseCommunicationEngineTest {
         cachedStatements.add(statement);
         engine.close();
         verify(resultSet).close();
-        verify(statement).close();
+        verify(backendConnection).closeStatement(statement, true);
         assertTrue(cachedResultSets.isEmpty());
         assertTrue(cachedStatements.isEmpty());
     }
@@ -210,7 +211,7 @@ public final class DatabaseCommunicationEngineTest {
         cachedResultSets.add(resultSet);
         Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
         SQLException sqlExceptionByStatement = new SQLException("Statement");
-        doThrow(sqlExceptionByStatement).when(statement).close();
+        doThrow(sqlExceptionByStatement).when(backendConnection).closeStatement(statement, false);
         cachedStatements.add(statement);
         SQLException actual = null;
         try {
@@ -219,13 +220,30 @@ public final class DatabaseCommunicationEngineTest {
             actual = ex;
         }
         verify(resultSet).close();
-        verify(statement).close();
+        verify(backendConnection).closeStatement(statement, false);
         assertTrue(cachedResultSets.isEmpty());
         assertTrue(cachedStatements.isEmpty());
         assertThat(actual.getNextException(), is(sqlExceptionByResultSet));
         assertThat(actual.getNextException().getNextException(), is(sqlExceptionByStatement));
     }
     
+    @Test(expected = SQLException.class)
+    public void assertCloseAfterFetchFailed() throws SQLException, NoSuchFieldException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenThrow(new SQLException("Fetch"));
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("mergedResult"), mergedResult);
+        Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
+        cachedStatements.add(statement);
+        try {
+            engine.next();
+        } finally {
+            engine.close();
+            verify(backendConnection).closeStatement(statement, false);
+        }
+    }
+    
     @SneakyThrows
     private <T> T getField(final DatabaseCommunicationEngine target, final String fieldName) {
         Field field = DatabaseCommunicationEngine.class.getDeclaredField(fieldName);
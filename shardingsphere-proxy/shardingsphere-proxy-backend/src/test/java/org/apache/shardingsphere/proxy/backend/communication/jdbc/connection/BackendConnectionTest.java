@@ -20,12 +20,14 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.mode.manager.ContextManager;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
@@ -48,9 +50,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -315,6 +319,71 @@ public final class BackendConnectionTest {
         verify(connection, times(1)).createStatement();
     }
     
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCache() throws SQLException {
+        mockPreparedStatementCacheSize();
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        StatementOption option = new StatementOption(false);
+        PreparedStatement actual = backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, option);
+        backendConnection.closeStatement(actual, true);
+        backendConnection.closeConnections(false);
+        assertThat(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, option), is(preparedStatement));
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+        backendConnection.closeStatement(actual, true);
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCacheOnPhysicalConnection() throws SQLException {
+        mockPreparedStatementCacheSize();
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        StatementOption option = new StatementOption(false);
+        for (int i = 0; i < 2; i++) {
+            Connection pooledConnection = mock(Connection.class);
+            when(pooledConnection.isWrapperFor(Connection.class)).thenReturn(true);
+            when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+            PreparedStatement actual = backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), pooledConnection, ConnectionMode.CONNECTION_STRICTLY, option);
+            assertThat(actual, is(preparedStatement));
+            backendConnection.closeStatement(actual, true);
+            verify(pooledConnection, never()).prepareStatement("SELECT 1");
+        }
+        verify(physicalConnection, times(1)).prepareStatement("SELECT 1");
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithPreparedStatementCacheInXATransaction() throws SQLException {
+        mockPreparedStatementCacheSize();
+        backendConnection.getTransactionStatus().setTransactionType(TransactionType.XA);
+        backendConnection.getTransactionStatus().setInTransaction(true);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        StatementOption option = new StatementOption(false);
+        backendConnection.closeStatement(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, option), true);
+        backendConnection.closeStatement(backendConnection.createStorageResource("SELECT 1", Collections.emptyList(), connection, ConnectionMode.CONNECTION_STRICTLY, option), true);
+        verify(connection, times(2)).prepareStatement("SELECT 1");
+        verify(preparedStatement, times(2)).close();
+    }
+    
+    private void mockPreparedStatementCacheSize() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "1");
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(PersistService.class), createMetaDataMap(),
+                mock(ShardingSphereRuleMetaData.class), mock(ExecutorEngine.class), new ConfigurationProperties(props), mock(OptimizeContextFactory.class));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts()).thenReturn(metaDataContexts);
+    }
+    
+    @Test
+    public void assertCloseStatementWithoutPreparedStatementCache() throws SQLException {
+        Statement statement = mock(Statement.class);
+        backendConnection.closeStatement(statement, true);
+        verify(statement, times(1)).close();
+    }
+    
     @Test
     public void assertGetConnectionsWithoutTransactions() throws SQLException {
         backendConnection.getTransactionStatus().setInTransaction(false);
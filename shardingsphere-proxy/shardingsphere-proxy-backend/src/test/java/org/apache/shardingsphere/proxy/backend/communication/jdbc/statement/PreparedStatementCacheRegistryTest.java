@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheRegistryTest {
+    
+    @Test
+    public void assertGetCache() {
+        Connection connection = mock(Connection.class);
+        PreparedStatementCache actual = PreparedStatementCacheRegistry.getCache(connection, 1);
+        assertThat(PreparedStatementCacheRegistry.getCache(connection, 1), is(actual));
+        assertThat(PreparedStatementCacheRegistry.getCache(mock(Connection.class), 1), not(actual));
+    }
+    
+    @Test
+    public void assertRemoveCacheOfClosedConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatementCache cache = PreparedStatementCacheRegistry.getCache(connection, 1);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        StatementOption option = new StatementOption(false);
+        cache.register(preparedStatement, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, option);
+        cache.giveBack(preparedStatement, true);
+        when(connection.isClosed()).thenReturn(true);
+        PreparedStatementCacheRegistry.getCache(mock(Connection.class), 1);
+        verify(preparedStatement, times(1)).close();
+        assertThat(PreparedStatementCacheRegistry.getCache(connection, 1), not(cache));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private final StatementOption option = new StatementOption(false);
+    
+    @Test
+    public void assertBorrowAfterGiveBack() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.register(preparedStatement, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, option);
+        assertTrue(cache.giveBack(preparedStatement, true));
+        verify(preparedStatement, times(1)).clearParameters();
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.CONNECTION_STRICTLY, option).isPresent());
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, new StatementOption(true)).isPresent());
+        assertThat(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).orElse(null), is(preparedStatement));
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertBorrowClosedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = createIdlePreparedStatement(cache, "SELECT 1");
+        when(preparedStatement.isClosed()).thenReturn(true);
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertGiveBackNotBorrowedStatement() throws SQLException {
+        Statement statement = mock(Statement.class);
+        assertFalse(new PreparedStatementCache(2).giveBack(statement, true));
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertGiveBackNotReusableStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        cache.register(preparedStatement, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, option);
+        assertTrue(cache.giveBack(preparedStatement, false));
+        verify(preparedStatement, times(1)).close();
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGiveBackWhenClearParametersFailed() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        doThrow(SQLException.class).when(preparedStatement).clearParameters();
+        cache.register(preparedStatement, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, option);
+        try {
+            cache.giveBack(preparedStatement, true);
+        } finally {
+            verify(preparedStatement, times(1)).close();
+            assertThat(cache.size(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        final PreparedStatement preparedStatement1 = createIdlePreparedStatement(cache, "SELECT 1");
+        PreparedStatement preparedStatement2 = createIdlePreparedStatement(cache, "SELECT 2");
+        assertTrue(cache.giveBack(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).orElse(null), true));
+        PreparedStatement preparedStatement3 = createIdlePreparedStatement(cache, "SELECT 3");
+        verify(preparedStatement3, never()).close();
+        verify(preparedStatement2, times(1)).close();
+        verify(preparedStatement1, never()).close();
+        assertThat(cache.size(), is(2));
+    }
+    
+    @Test
+    public void assertInvalidateWhenSchemaAltered() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement preparedStatement = createIdlePreparedStatement(cache, "SELECT 1");
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent("foo_schema", mock(ShardingSphereSchema.class)));
+        assertFalse(cache.borrow("SELECT 1", ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+        verify(preparedStatement, times(1)).close();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement idlePreparedStatement = createIdlePreparedStatement(cache, "SELECT 1");
+        PreparedStatement borrowedPreparedStatement = mock(PreparedStatement.class);
+        cache.register(borrowedPreparedStatement, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, option);
+        cache.close();
+        verify(idlePreparedStatement, times(1)).close();
+        assertTrue(cache.giveBack(borrowedPreparedStatement, true));
+        verify(borrowedPreparedStatement, times(1)).close();
+        assertThat(cache.size(), is(0));
+    }
+    
+    private PreparedStatement createIdlePreparedStatement(final PreparedStatementCache cache, final String sql) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        cache.register(result, sql, ConnectionMode.MEMORY_STRICTLY, option);
+        cache.giveBack(result, true);
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+
+/**
+ * Packet batch writer.
+ *
+ * <p>Packets are encoded into one pooled buffer, which is written and flushed when it reaches the flush bytes or the flush threshold of packets.
+ * Writing waits until the channel becomes writable again.</p>
+ *
+ * @param <T> type of database packet
+ */
+@RequiredArgsConstructor
+public final class PacketBatchWriter<T extends DatabasePacket<?>> implements AutoCloseable {
+    
+    private static final int FLUSH_BYTES = 64 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private final DatabasePacketCodecEngine<T> codecEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final int flushThreshold;
+    
+    private ByteBuf buffer;
+    
+    private int bufferedCount;
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final T packet) {
+        if (null == buffer) {
+            buffer = context.alloc().ioBuffer();
+        }
+        codecEngine.encode(context, packet, buffer);
+        bufferedCount++;
+        if (buffer.readableBytes() >= FLUSH_BYTES || bufferedCount >= flushThreshold) {
+            writeBuffer();
+            context.flush();
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                context.flush();
+                backendConnection.getResourceLock().doAwait();
+            }
+        }
+    }
+    
+    private void writeBuffer() {
+        if (null == buffer) {
+            return;
+        }
+        context.write(buffer);
+        buffer = null;
+        bufferedCount = 0;
+    }
+    
+    /**
+     * Write buffered packets without flush.
+     */
+    @Override
+    public void close() {
+        writeBuffer();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PacketBatchWriterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private DatabasePacket<?> packet;
+    
+    @Before
+    public void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> ((ByteBuf) invocation.getArgument(2)).writeInt(1)).when(codecEngine).encode(eq(context), eq(packet), any(ByteBuf.class));
+    }
+    
+    @Test
+    public void assertWriteWithoutReachingThreshold() {
+        try (PacketBatchWriter<DatabasePacket<?>> batchWriter = new PacketBatchWriter<>(context, codecEngine, backendConnection, 10)) {
+            batchWriter.write(packet);
+            batchWriter.write(packet);
+            verify(context, never()).write(any());
+        }
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(captor.capture());
+        assertThat(captor.getValue().readableBytes(), is(8));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    public void assertWriteWithReachingThreshold() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+        try (PacketBatchWriter<DatabasePacket<?>> batchWriter = new PacketBatchWriter<>(context, codecEngine, backendConnection, 2)) {
+            for (int i = 0; i < 5; i++) {
+                batchWriter.write(packet);
+            }
+        }
+        verify(context, times(3)).write(any(ByteBuf.class));
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    public void assertWriteWithUnwritableChannel() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(false, true);
+        when(channel.isActive()).thenReturn(true);
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        when(backendConnection.getResourceLock()).thenReturn(resourceLock);
+        try (PacketBatchWriter<DatabasePacket<?>> batchWriter = new PacketBatchWriter<>(context, codecEngine, backendConnection, 1)) {
+            batchWriter.write(packet);
+        }
+        verify(resourceLock).doAwait();
+        verify(context, times(2)).flush();
+    }
+}
@@ -81,6 +81,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             stopJob(context, requestPath);
             return;
         }
+        if (requestPath.startsWith("/scaling/job/check-progress/")) {
+            getDataCheckProgress(context, requestPath);
+            return;
+        }
         if (requestPath.contains("/scaling/job/check/")) {
             checkJob(context, requestPath);
             return;
@@ -127,6 +131,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void getDataCheckProgress(final ChannelHandlerContext context, final String requestPath) {
+        response(ResponseContentUtil.build(scalingAPI.getDataCheckProgress(getJobId(requestPath))), context, HttpResponseStatus.OK);
+    }
+    
     private void resetJob(final ChannelHandlerContext context, final String requestPath) {
         try {
             scalingAPI.reset(getJobId(requestPath));
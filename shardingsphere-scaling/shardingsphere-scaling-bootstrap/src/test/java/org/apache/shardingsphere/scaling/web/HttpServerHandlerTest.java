@@ -32,6 +32,7 @@ import org.apache.shardingsphere.scaling.core.api.JobInfo;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
@@ -121,6 +122,15 @@ public final class HttpServerHandlerTest {
         assertTrue(responseContent.isSuccess());
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGetDataCheckProgress() {
+        when(scalingAPI.getDataCheckProgress(1L)).thenReturn(Collections.singletonMap("t_order", new DataCheckProgress(2)));
+        ResponseContent<?> responseContent = execute("/scaling/job/check-progress/1");
+        Map<String, Map<String, Object>> map = (Map<String, Map<String, Object>>) responseContent.getModel();
+        assertThat(map.get("t_order").get("chunkCount"), is(2.0));
+    }
+    
     @Test
     public void assertResetTargetTable() {
         ResponseContent<?> responseContent = execute("/scaling/job/reset/1");
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.core.api;
 
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
@@ -83,6 +84,14 @@ public interface ScalingAPI {
      */
     Map<String, DataConsistencyCheckResult> dataConsistencyCheck(long jobId);
     
+    /**
+     * Get data check progress of running data consistency check.
+     *
+     * @param jobId job id
+     * @return each logic table data check progress, empty if no data consistency check is running
+     */
+    Map<String, DataCheckProgress> getDataCheckProgress(long jobId);
+    
     /**
      * Reset scaling job.
      *
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.check.EnvironmentCheckerFactory;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckProgress;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.environment.ScalingEnvironmentManager;
@@ -38,10 +39,12 @@ import org.apache.shardingsphere.scaling.core.util.JobConfigurationUtil;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -50,6 +53,8 @@ public final class ScalingAPIImpl implements ScalingAPI {
     
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private final Map<Long, DataConsistencyChecker> runningDataConsistencyCheckers = new ConcurrentHashMap<>();
+    
     @Override
     public List<JobInfo> list() {
         return ScalingAPIFactory.getJobStatisticsAPI().getAllJobsBriefInfo().stream()
@@ -128,13 +133,32 @@ public final class ScalingAPIImpl implements ScalingAPI {
         DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(new JobContext(getJobConfig(jobId)));
         Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
         if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
-            Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
-            result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
+            Map<String, Boolean> dataCheckResult = dataCheck(jobId, dataConsistencyChecker);
+            Map<String, DataCheckProgress> dataCheckProgress = dataConsistencyChecker.getDataCheckProgress();
+            result.forEach((key, value) -> {
+                value.setDataValid(dataCheckResult.getOrDefault(key, false));
+                value.setDataCheckProgress(dataCheckProgress.get(key));
+            });
         }
         log.info("Scaling job {} data consistency checker result {}", jobId, result);
         return result;
     }
     
+    private Map<String, Boolean> dataCheck(final long jobId, final DataConsistencyChecker dataConsistencyChecker) {
+        runningDataConsistencyCheckers.put(jobId, dataConsistencyChecker);
+        try {
+            return dataConsistencyChecker.dataCheck();
+        } finally {
+            runningDataConsistencyCheckers.remove(jobId, dataConsistencyChecker);
+        }
+    }
+    
+    @Override
+    public Map<String, DataCheckProgress> getDataCheckProgress(final long jobId) {
+        DataConsistencyChecker dataConsistencyChecker = runningDataConsistencyCheckers.get(jobId);
+        return null == dataConsistencyChecker ? Collections.emptyMap() : dataConsistencyChecker.getDataCheckProgress();
+    }
+    
     @Override
     public void reset(final long jobId) throws SQLException {
         log.info("Scaling job {} reset target table", jobId);
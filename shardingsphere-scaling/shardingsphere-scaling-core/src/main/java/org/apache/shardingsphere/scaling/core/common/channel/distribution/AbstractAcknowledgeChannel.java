@@ -19,39 +19,43 @@ package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 
-import java.util.BitSet;
 import java.util.Deque;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
- * Abstract BitSet channel.
+ * Abstract acknowledge channel.
  */
-@Getter(AccessLevel.PROTECTED)
-@Setter(AccessLevel.PROTECTED)
-public abstract class AbstractBitSetChannel implements BitSetChannel {
+public abstract class AbstractAcknowledgeChannel implements AcknowledgeChannel {
     
+    @Getter(AccessLevel.PROTECTED)
     private final Deque<Record> toBeAckRecords = new ConcurrentLinkedDeque<>();
     
-    private final ManualBitSet manualBitSet = new ManualBitSet();
+    private final Object acknowledgedMonitor = new Object();
     
-    private long acknowledgedIndex;
+    @Getter
+    private volatile long acknowledgedIndex;
     
-    @Override
-    public BitSet getAckBitSet(final long fromIndex) {
-        return manualBitSet.get(fromIndex, acknowledgedIndex);
+    protected final void setAcknowledgedIndex(final long acknowledgedIndex) {
+        this.acknowledgedIndex = acknowledgedIndex;
+        synchronized (acknowledgedMonitor) {
+            acknowledgedMonitor.notifyAll();
+        }
     }
     
     @Override
-    public Record removeAckRecord() {
-        return toBeAckRecords.remove();
+    public void awaitAcknowledged(final long index) throws InterruptedException {
+        synchronized (acknowledgedMonitor) {
+            while (acknowledgedIndex <= index) {
+                acknowledgedMonitor.wait();
+            }
+        }
     }
     
     @Override
-    public void clear(final long index) {
-        manualBitSet.clear(index);
+    public Record removeAckRecord() {
+        return toBeAckRecords.remove();
     }
     
     @Override
@@ -19,13 +19,12 @@ package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 
-import java.util.BitSet;
 import java.util.List;
 
 /**
- * BitSet channel interface.
+ * Acknowledge channel interface.
  */
-public interface BitSetChannel {
+public interface AcknowledgeChannel {
     
     /**
      * Push a {@code DataRecord} with index to channel.
@@ -51,26 +50,26 @@ public interface BitSetChannel {
     void ack();
     
     /**
-     * Get acknowledged BitSet.
+     * Get acknowledged index, records pushed to this channel with smaller index are all acknowledged.
      *
-     * @param fromIndex from index
-     * @return BitSet
+     * @return acknowledged index
      */
-    BitSet getAckBitSet(long fromIndex);
+    long getAcknowledgedIndex();
     
     /**
-     * Remove earliest acknowledged record.
+     * Wait until records pushed to this channel with index not greater than the given index are all acknowledged.
      *
-     * @return record
+     * @param index data index
+     * @throws InterruptedException if thread interrupted
      */
-    Record removeAckRecord();
+    void awaitAcknowledged(long index) throws InterruptedException;
     
     /**
-     * Clear BitSet.
+     * Remove earliest acknowledged record.
      *
-     * @param index BitSet index
+     * @return record
      */
-    void clear(long index);
+    Record removeAckRecord();
     
     /**
      * Close channel.
@@ -22,13 +22,12 @@ import org.apache.shardingsphere.scaling.core.common.record.Record;
 import java.util.List;
 
 /**
- * Auto Acknowledge BitSet channel.
+ * Auto acknowledge channel.
  */
-public final class AutoAcknowledgeChannel extends AbstractBitSetChannel {
+public final class AutoAcknowledgeChannel extends AbstractAcknowledgeChannel {
     
     @Override
     public void pushRecord(final Record dataRecord, final long index) {
-        getManualBitSet().set(index);
         getToBeAckRecords().add(dataRecord);
         setAcknowledgedIndex(index + 1);
     }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
@@ -27,23 +29,22 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
 /**
- * Blocking queue BitSet channel.
+ * Blocking queue acknowledge channel.
  */
-public final class BlockingQueueChannel extends AbstractBitSetChannel {
+public final class BlockingQueueChannel extends AbstractAcknowledgeChannel {
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    private final BlockingQueue<IndexedRecord> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
     
     private long fetchedIndex;
     
     @Override
     public void pushRecord(final Record dataRecord, final long index) throws InterruptedException {
-        getManualBitSet().set(index);
-        queue.put(dataRecord);
+        queue.put(new IndexedRecord(dataRecord, index));
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> result = new ArrayList<>(batchSize);
+        List<IndexedRecord> indexedRecords = new ArrayList<>(batchSize);
         long start = System.currentTimeMillis();
         while (batchSize > queue.size()) {
             if (timeout * 1000L <= System.currentTimeMillis() - start) {
@@ -51,9 +52,15 @@ public final class BlockingQueueChannel extends AbstractBitSetChannel {
             }
             ThreadUtil.sleep(100L);
         }
-        queue.drainTo(result, batchSize);
+        queue.drainTo(indexedRecords, batchSize);
+        List<Record> result = new ArrayList<>(indexedRecords.size());
+        for (IndexedRecord each : indexedRecords) {
+            result.add(each.getRecord());
+        }
         getToBeAckRecords().addAll(result);
-        fetchedIndex = getManualBitSet().getEndIndex(fetchedIndex, result.size());
+        if (!indexedRecords.isEmpty()) {
+            fetchedIndex = indexedRecords.get(indexedRecords.size() - 1).getIndex() + 1;
+        }
         return result;
     }
     
@@ -67,4 +74,13 @@ public final class BlockingQueueChannel extends AbstractBitSetChannel {
         queue.clear();
         super.close();
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class IndexedRecord {
+        
+        private final Record record;
+        
+        private final long index;
+    }
 }
@@ -20,16 +20,20 @@ package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 
-import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
@@ -39,15 +43,24 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Data records are partitioned to channels by table name and primary key, so records of the same key are applied in order by the same importer.
+ * A record which updates primary key to another channel waits until earlier records of its old key are applied,
+ * and later records wait until it is applied, so that records of old key and new key do not overtake each other.
+ * Records are acknowledged in push order by comparing their index with the acknowledged index of their channel, without locking the push and fetch path.
+ * </p>
  */
 @Slf4j
 public final class DistributionChannel implements Channel {
     
     private final int channelNumber;
     
-    private final BitSetChannel[] channels;
+    private final AcknowledgeChannel[] channels;
+    
+    private final AcknowledgeChannel autoAckChannel = new AutoAcknowledgeChannel();
     
-    private final BitSetChannel autoAckChannel = new AutoAcknowledgeChannel();
+    private final long[] lastPushedIndexes;
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
@@ -55,19 +68,21 @@ public final class DistributionChannel implements Channel {
     
     private final AtomicLong indexAutoIncreaseGenerator = new AtomicLong();
     
-    private final Queue<Integer> toBeAckBitSetIndexes = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> toBeAckChannelIndexes = new ConcurrentLinkedQueue<>();
     
-    private long lastAckIndex;
+    private volatile long lastAckIndex;
     
     private ScheduledExecutorService scheduleAckRecordsExecutor;
     
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
-        channels = new BitSetChannel[channelNumber];
+        channels = new AcknowledgeChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
             channels[i] = new BlockingQueueChannel();
         }
+        lastPushedIndexes = new long[channelNumber];
+        Arrays.fill(lastPushedIndexes, -1L);
         scheduleAckRecords();
     }
     
@@ -83,7 +98,7 @@ public final class DistributionChannel implements Channel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, -1);
         } else {
@@ -91,9 +106,44 @@ public final class DistributionChannel implements Channel {
         }
     }
     
-    private void pushRecord(final Record record, final int index) throws InterruptedException {
-        toBeAckBitSetIndexes.add(index);
-        getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
+    private long pushRecord(final Record record, final int channelIndex) throws InterruptedException {
+        long result = indexAutoIncreaseGenerator.getAndIncrement();
+        toBeAckChannelIndexes.add(channelIndex);
+        if (-1 != channelIndex) {
+            lastPushedIndexes[channelIndex] = result;
+        }
+        getAcknowledgeChannel(channelIndex).pushRecord(record, result);
+        return result;
+    }
+    
+    private void pushDataRecord(final DataRecord dataRecord) throws InterruptedException {
+        int channelIndex = getChannelIndex(dataRecord.getKey());
+        Optional<Integer> oldChannelIndex = findOldKey(dataRecord).map(this::getChannelIndex).filter(each -> each != channelIndex);
+        if (oldChannelIndex.isPresent()) {
+            channels[oldChannelIndex.get()].awaitAcknowledged(lastPushedIndexes[oldChannelIndex.get()]);
+        }
+        long index = pushRecord(dataRecord, channelIndex);
+        if (oldChannelIndex.isPresent()) {
+            channels[channelIndex].awaitAcknowledged(index);
+        }
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
+    }
+    
+    private Optional<DataRecord.Key> findOldKey(final DataRecord dataRecord) {
+        List<Object> result = new ArrayList<>();
+        boolean primaryKeyUpdated = false;
+        for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
+            if (each.isUpdated() && null != each.getOldValue()) {
+                primaryKeyUpdated = true;
+                result.add(each.getOldValue());
+            } else {
+                result.add(each.getValue());
+            }
+        }
+        return primaryKeyUpdated ? Optional.of(new DataRecord.Key(dataRecord.getTableName(), result)) : Optional.empty();
     }
     
     @Override
@@ -108,15 +158,12 @@ public final class DistributionChannel implements Channel {
     
     private synchronized void ackRecords0() {
         try {
-            int count = shouldAckCount();
-            if (0 == count) {
+            List<Record> ackRecords = fetchAckRecords();
+            if (ackRecords.isEmpty()) {
                 return;
             }
-            ackCallback.onAck(fetchAckRecords(count));
-            lastAckIndex += count;
-            for (BitSetChannel channel : channels) {
-                channel.clear(lastAckIndex);
-            }
+            lastAckIndex += ackRecords.size();
+            ackCallback.onAck(ackRecords);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -124,27 +171,31 @@ public final class DistributionChannel implements Channel {
         }
     }
     
-    private int shouldAckCount() {
-        BitSet bitSet = autoAckChannel.getAckBitSet(lastAckIndex);
-        for (BitSetChannel channel : channels) {
-            bitSet.or(channel.getAckBitSet(lastAckIndex));
-        }
-        return bitSet.nextClearBit(0);
+    /**
+     * Get count of records which are pushed but not acknowledged yet.
+     *
+     * @return pending record count
+     */
+    public long getPendingRecordCount() {
+        return indexAutoIncreaseGenerator.get() - lastAckIndex;
     }
     
-    private List<Record> fetchAckRecords(final int count) {
+    private List<Record> fetchAckRecords() {
         List<Record> result = new LinkedList<>();
-        for (int i = 0; i < count; i++) {
-            result.add(getBitSetChannel(toBeAckBitSetIndexes.remove()).removeAckRecord());
+        Integer channelIndex = toBeAckChannelIndexes.peek();
+        while (null != channelIndex && getAcknowledgeChannel(channelIndex).getAcknowledgedIndex() > lastAckIndex + result.size()) {
+            toBeAckChannelIndexes.remove();
+            result.add(getAcknowledgeChannel(channelIndex).removeAckRecord());
+            channelIndex = toBeAckChannelIndexes.peek();
         }
         return result;
     }
     
-    private BitSetChannel getBitSetChannel(final Integer index) {
-        return index == -1 ? autoAckChannel : channels[index];
+    private AcknowledgeChannel getAcknowledgeChannel(final int channelIndex) {
+        return -1 == channelIndex ? autoAckChannel : channels[channelIndex];
     }
     
-    private BitSetChannel findChannel() {
+    private AcknowledgeChannel findChannel() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
         return channels[channelAssignment.get(threadId)];
@@ -173,9 +224,9 @@ public final class DistributionChannel implements Channel {
     public void close() {
         scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
-        for (BitSetChannel each : channels) {
+        for (AcknowledgeChannel each : channels) {
             each.close();
         }
-        toBeAckBitSetIndexes.clear();
+        toBeAckChannelIndexes.clear();
     }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -72,25 +73,53 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
         return new StringBuilder().append(getLeftIdentifierQuoteString()).append(item).append(getRightIdentifierQuoteString());
     }
     
+    /**
+     * Build insert SQL suffix, such as dialect upsert clause.
+     *
+     * @param dataRecord data record
+     * @return insert SQL suffix
+     */
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
+        return "";
+    }
+    
     @Override
     public String buildInsertSQL(final DataRecord dataRecord) {
+        return buildInsertSQL(dataRecord, 1);
+    }
+    
+    @Override
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        StringBuilder result = new StringBuilder(sqlCacheMap.get(sqlCacheKey));
+        if (rowCount > 1) {
+            String valuesHolder = buildValuesHolder(dataRecord.getColumnCount());
+            for (int i = 1; i < rowCount; i++) {
+                result.append(',').append(valuesHolder);
+            }
+        }
+        return result.append(buildInsertSQLSuffix(dataRecord)).toString();
     }
     
     private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
-            holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
-        holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", quote(tableName), columnsLiteral, holder);
+        return String.format("INSERT INTO %s(%s) VALUES%s", quote(tableName), columnsLiteral, buildValuesHolder(columns.size()));
+    }
+    
+    private String buildValuesHolder(final int columnCount) {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < columnCount; i++) {
+            result.append("?,");
+        }
+        result.setCharAt(result.length() - 1, ')');
+        return result.toString();
     }
     
     @Override
@@ -152,8 +181,14 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
         return String.format("SELECT * FROM %s LIMIT 1", quote(tableName));
     }
     
+    @Override
+    public Optional<String> buildEstimatedCountSQL() {
+        return Optional.empty();
+    }
+    
     @Override
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
-        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
+        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
+                quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey), quote(primaryKey));
     }
 }
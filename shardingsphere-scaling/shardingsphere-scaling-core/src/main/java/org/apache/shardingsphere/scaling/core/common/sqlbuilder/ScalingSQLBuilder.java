@@ -21,6 +21,7 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Scaling SQL builder.
@@ -35,6 +36,15 @@ public interface ScalingSQLBuilder {
      */
     String buildInsertSQL(DataRecord dataRecord);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    String buildInsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -77,6 +87,15 @@ public interface ScalingSQLBuilder {
      */
     String buildCheckEmptySQL(String tableName);
     
+    /**
+     * Build estimated count SQL.
+     *
+     * <p>The SQL has one parameter for the table name and returns the estimated row count from database statistics.</p>
+     *
+     * @return estimated count SQL, empty if database can not estimate row count cheaply
+     */
+    Optional<String> buildEstimatedCountSQL();
+    
     /**
      * Build split by primary key range SQL.
      *
@@ -38,4 +38,8 @@ public class DumperConfiguration {
     private ScalingPosition<?> position;
     
     private Map<String, String> tableNameMap;
+    
+    private String decodingPlugin;
+    
+    private String publicationName;
 }
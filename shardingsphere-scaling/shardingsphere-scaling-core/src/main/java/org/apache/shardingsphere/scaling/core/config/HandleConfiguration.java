@@ -47,6 +47,10 @@ public final class HandleConfiguration {
     
     private String databaseType;
     
+    private String decodingPlugin = "test_decoding";
+    
+    private String publicationName = "sharding_scaling";
+    
     private WorkflowConfiguration workflowConfig;
     
     public HandleConfiguration(final WorkflowConfiguration workflowConfig) {
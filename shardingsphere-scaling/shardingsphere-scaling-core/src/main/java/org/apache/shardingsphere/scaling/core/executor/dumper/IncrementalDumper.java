@@ -17,8 +17,19 @@
 
 package org.apache.shardingsphere.scaling.core.executor.dumper;
 
+import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskThroughput;
+
 /**
  * Incremental dumper.
  */
 public interface IncrementalDumper extends Dumper {
+    
+    /**
+     * Get throughput of log decoding.
+     *
+     * @return incremental task throughput
+     */
+    default IncrementalTaskThroughput getThroughput() {
+        return new IncrementalTaskThroughput();
+    }
 }
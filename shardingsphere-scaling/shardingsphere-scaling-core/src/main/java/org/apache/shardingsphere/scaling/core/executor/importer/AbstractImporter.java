@@ -52,6 +52,11 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    // PostgreSQL protocol allows at most 32767 bind parameters in one statement
+    private static final int MAX_INSERT_PARAMETER_COUNT = Short.MAX_VALUE;
+    
+    private static final long MAX_INSERT_PAYLOAD_BYTES = 1024 * 1024;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSourceManager dataSourceManager;
@@ -155,16 +160,46 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
+        int maxRowCount = Math.max(1, MAX_INSERT_PARAMETER_COUNT / dataRecords.get(0).getColumnCount());
+        int fromIndex = 0;
+        long payloadBytes = 0;
+        for (int i = 0; i < dataRecords.size(); i++) {
+            payloadBytes += estimatePayloadBytes(dataRecords.get(i));
+            int rowCount = i + 1 - fromIndex;
+            if (rowCount >= maxRowCount || payloadBytes >= MAX_INSERT_PAYLOAD_BYTES || i == dataRecords.size() - 1) {
+                executeMultiRowInsert(connection, dataRecords.subList(fromIndex, i + 1));
+                fromIndex = i + 1;
+                payloadBytes = 0;
+            }
+        }
+    }
+    
+    private long estimatePayloadBytes(final DataRecord dataRecord) {
+        long result = 0;
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Object value = dataRecord.getColumn(i).getValue();
+            if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length();
+            } else {
+                result += 8;
+            }
+        }
+        return result;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0), dataRecords.size());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    ps.setObject(i + 1, each.getColumn(i).getValue());
+                    ps.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                ps.addBatch();
             }
-            ps.executeBatch();
+            ps.executeUpdate();
         }
     }
     
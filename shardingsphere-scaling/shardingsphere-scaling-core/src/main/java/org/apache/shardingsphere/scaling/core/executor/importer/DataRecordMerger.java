@@ -162,7 +162,7 @@ public final class DataRecordMerger {
                     preDataRecord.getColumn(i).isPrimaryKey()
                             ? mergePrimaryKeyOldValue(preDataRecord.getColumn(i), curDataRecord.getColumn(i))
                             : null,
-                    curDataRecord.getColumn(i).getValue(),
+                    curDataRecord.getColumn(i).isUpdated() ? curDataRecord.getColumn(i).getValue() : preDataRecord.getColumn(i).getValue(),
                     preDataRecord.getColumn(i).isUpdated() || curDataRecord.getColumn(i).isUpdated(),
                     curDataRecord.getColumn(i).isPrimaryKey()
             ));
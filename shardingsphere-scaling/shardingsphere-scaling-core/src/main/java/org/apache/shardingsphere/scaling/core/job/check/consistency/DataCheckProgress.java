@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data check progress of one table.
+ */
+@Getter
+@ToString
+public final class DataCheckProgress {
+    
+    private final int chunkCount;
+    
+    private final AtomicInteger checkedChunkCount = new AtomicInteger();
+    
+    private final AtomicLong checkedRowCount = new AtomicLong();
+    
+    private final Collection<String> mismatchedRanges = new ConcurrentLinkedQueue<>();
+    
+    private final long startMillis = System.currentTimeMillis();
+    
+    private volatile long rowsPerSecond;
+    
+    public DataCheckProgress(final int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+    
+    /**
+     * Finish checking one chunk.
+     *
+     * @param rowCount row count of chunk
+     * @param mismatchedRanges mismatched ranges found in chunk
+     */
+    public void finishChunk(final long rowCount, final Collection<String> mismatchedRanges) {
+        checkedChunkCount.incrementAndGet();
+        long currentRowCount = checkedRowCount.addAndGet(rowCount);
+        this.mismatchedRanges.addAll(mismatchedRanges);
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        rowsPerSecond = 0 == elapsedMillis ? currentRowCount : currentRowCount * 1000 / elapsedMillis;
+    }
+}
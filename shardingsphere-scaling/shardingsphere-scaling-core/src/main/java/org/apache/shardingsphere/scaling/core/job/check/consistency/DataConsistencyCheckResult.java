@@ -37,6 +37,8 @@ public final class DataConsistencyCheckResult {
     
     private boolean dataValid;
     
+    private DataCheckProgress dataCheckProgress;
+    
     public DataConsistencyCheckResult(final long sourceCount, final long targetCount) {
         this.sourceCount = sourceCount;
         this.targetCount = targetCount;
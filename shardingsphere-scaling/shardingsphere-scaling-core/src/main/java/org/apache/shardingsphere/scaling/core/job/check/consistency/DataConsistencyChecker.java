@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.job.check.consistency;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -37,4 +38,13 @@ public interface DataConsistencyChecker {
      * @return data is valid or not
      */
     Map<String, Boolean> dataCheck();
+    
+    /**
+     * Get data check progress of each table.
+     *
+     * @return data check progress
+     */
+    default Map<String, DataCheckProgress> getDataCheckProgress() {
+        return Collections.emptyMap();
+    }
 }
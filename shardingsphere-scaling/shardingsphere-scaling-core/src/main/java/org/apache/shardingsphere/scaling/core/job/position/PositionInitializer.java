@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.scaling.core.job.position;
 
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+
 import javax.sql.DataSource;
 import java.sql.SQLException;
 
@@ -29,10 +31,11 @@ public interface PositionInitializer {
      * Init position by data source.
      *
      * @param dataSource data source
+     * @param dumperConfig dumper configuration
      * @return position
      * @throws SQLException SQL exception
      */
-    ScalingPosition<?> init(DataSource dataSource) throws SQLException;
+    ScalingPosition<?> init(DataSource dataSource, DumperConfiguration dumperConfig) throws SQLException;
     
     /**
      * Init position by string data.
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.scaling.core.job.preparer.splitter.InventoryTas
 import org.apache.shardingsphere.scaling.core.job.task.ScalingTaskFactory;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.LinkedList;
 import java.util.List;
@@ -97,6 +98,7 @@ public final class ScalingJobPreparer {
         if (null != jobContext.getInitProgress()) {
             return jobContext.getInitProgress().getIncrementalPosition(taskConfig.getDumperConfig().getDataSourceName());
         }
-        return PositionInitializerFactory.newInstance(taskConfig.getHandleConfig().getDatabaseType()).init(dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig()));
+        DataSource dataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig());
+        return PositionInitializerFactory.newInstance(taskConfig.getHandleConfig().getDatabaseType()).init(dataSource, taskConfig.getDumperConfig());
     }
 }
@@ -22,9 +22,12 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilderFactory;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
@@ -44,6 +47,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -51,6 +55,10 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int RANGES_PER_WORKER = 4;
+    
+    private static final long MIN_SHARDING_SIZE = 100 * 10000;
+    
     /**
      * Split inventory data to multi-tasks.
      *
@@ -154,14 +162,15 @@ public final class InventoryTaskSplitter {
     
     private Collection<ScalingPosition<?>> getPositionByPrimaryKeyRange(final JobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         Collection<ScalingPosition<?>> result = new ArrayList<>();
-        String sql = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey());
+        ScalingSQLBuilder sqlBuilder = ScalingSQLBuilderFactory.newInstance(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
+        String sql = sqlBuilder.buildSplitByPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey());
         try (Connection connection = dataSource.getConnection();
              PreparedStatement ps = connection.prepareStatement(sql)) {
+            long shardingSize = getShardingSize(jobContext, connection, sqlBuilder, dumperConfig.getTableName());
             long beginId = 0;
             for (int i = 0; i < Integer.MAX_VALUE; i++) {
                 ps.setLong(1, beginId);
-                ps.setLong(2, jobContext.getJobConfig().getHandleConfig().getShardingSize());
+                ps.setLong(2, shardingSize);
                 try (ResultSet rs = ps.executeQuery()) {
                     rs.next();
                     long endId = rs.getLong(1);
@@ -181,4 +190,40 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    /**
+     * Get rows of each primary key range.
+     *
+     * <p>Large tables are split into at least {@code RANGES_PER_WORKER} ranges for each inventory worker thread,
+     * so that a worker which becomes idle can always pick up an untouched range instead of waiting for a few long ranges to finish.
+     * The configured sharding size is the upper bound, and it is used directly if the row count can not be estimated.</p>
+     */
+    private long getShardingSize(final JobContext jobContext, final Connection connection, final ScalingSQLBuilder sqlBuilder, final String tableName) {
+        int result = jobContext.getJobConfig().getHandleConfig().getShardingSize();
+        ServerConfiguration serverConfig = ScalingContext.getInstance().getServerConfig();
+        Optional<String> estimatedCountSQL = sqlBuilder.buildEstimatedCountSQL();
+        if (null == serverConfig || !estimatedCountSQL.isPresent()) {
+            return result;
+        }
+        long estimatedCount = getEstimatedCount(connection, estimatedCountSQL.get(), tableName);
+        if (estimatedCount <= 0) {
+            log.info("Split table {} by configured sharding size {}, reason: row count is not estimated", tableName, result);
+            return result;
+        }
+        long adaptiveShardingSize = Math.min(result, Math.max(MIN_SHARDING_SIZE, estimatedCount / ((long) serverConfig.getWorkerThread() * RANGES_PER_WORKER)));
+        log.info("Split table {} with estimated count {} by sharding size {}", tableName, estimatedCount, adaptiveShardingSize);
+        return adaptiveShardingSize;
+    }
+    
+    private long getEstimatedCount(final Connection connection, final String sql, final String tableName) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, tableName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (final SQLException ex) {
+            log.warn("Estimate row count of table {} failed", tableName, ex);
+            return 0;
+        }
+    }
 }
@@ -25,7 +25,9 @@ import org.apache.shardingsphere.scaling.core.job.position.PositionInitializerFa
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
+import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskThroughput;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskThroughput;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -58,6 +60,7 @@ public final class JobProgressYamlSwapper {
         YamlJobProgress.YamlInventory result = new YamlJobProgress.YamlInventory();
         result.setFinished(getFinished(inventoryTaskProgressMap));
         result.setUnfinished(getUnfinished(inventoryTaskProgressMap));
+        result.setThroughput(inventoryTaskProgressMap.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getInventoryTaskThroughput())));
         return result;
     }
     
@@ -80,6 +83,7 @@ public final class JobProgressYamlSwapper {
                     YamlJobProgress.YamlIncremental result = new YamlJobProgress.YamlIncremental();
                     result.setPosition(entry.getValue().getPosition().toString());
                     result.setDelay(entry.getValue().getIncrementalTaskDelay());
+                    result.setThroughput(entry.getValue().getIncrementalTaskThroughput());
                     return result;
                 }));
     }
@@ -103,6 +107,11 @@ public final class JobProgressYamlSwapper {
         Map<String, InventoryTaskProgress> result = new HashMap<>();
         result.putAll(Arrays.stream(inventory.getFinished()).collect(Collectors.toMap(each -> each, each -> new InventoryTaskProgress(new FinishedPosition()))));
         result.putAll(inventory.getUnfinished().entrySet().stream().collect(Collectors.toMap(Entry::getKey, getInventoryTaskProgressFunction())));
+        for (Entry<String, InventoryTaskThroughput> entry : inventory.getThroughput().entrySet()) {
+            if (result.containsKey(entry.getKey()) && null != entry.getValue()) {
+                result.get(entry.getKey()).setInventoryTaskThroughput(entry.getValue());
+            }
+        }
         return result;
     }
     
@@ -115,6 +124,7 @@ public final class JobProgressYamlSwapper {
     }
     
     private Function<Entry<String, YamlJobProgress.YamlIncremental>, IncrementalTaskProgress> getIncrementalTaskProgressFunction(final String databaseType) {
-        return entry -> new IncrementalTaskProgress(PositionInitializerFactory.newInstance(databaseType).init(entry.getValue().getPosition()), entry.getValue().getDelay());
+        return entry -> new IncrementalTaskProgress(PositionInitializerFactory.newInstance(databaseType).init(entry.getValue().getPosition()), entry.getValue().getDelay(),
+                null == entry.getValue().getThroughput() ? new IncrementalTaskThroughput() : entry.getValue().getThroughput());
     }
 }
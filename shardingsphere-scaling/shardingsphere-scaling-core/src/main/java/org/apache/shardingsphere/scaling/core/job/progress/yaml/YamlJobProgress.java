@@ -20,6 +20,8 @@ package org.apache.shardingsphere.scaling.core.job.progress.yaml;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskDelay;
+import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskThroughput;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskThroughput;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +48,8 @@ public final class YamlJobProgress {
         private String[] finished = new String[0];
         
         private Map<String, String> unfinished = new HashMap<>();
+        
+        private Map<String, InventoryTaskThroughput> throughput = new HashMap<>();
     }
     
     @Getter
@@ -55,5 +59,7 @@ public final class YamlJobProgress {
         private String position;
         
         private IncrementalTaskDelay delay;
+        
+        private IncrementalTaskThroughput throughput;
     }
 }
@@ -27,8 +27,8 @@ import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
-import org.apache.shardingsphere.scaling.core.executor.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.executor.dumper.DumperFactory;
+import org.apache.shardingsphere.scaling.core.executor.dumper.IncrementalDumper;
 import org.apache.shardingsphere.scaling.core.executor.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.executor.importer.ImporterFactory;
@@ -58,7 +58,9 @@ public final class IncrementalTask extends AbstractScalingExecutor implements Sc
     
     private final DataSourceManager dataSourceManager;
     
-    private Dumper dumper;
+    private IncrementalDumper dumper;
+    
+    private volatile DistributionChannel channel;
     
     @Getter
     private IncrementalTaskProgress progress;
@@ -92,14 +94,15 @@ public final class IncrementalTask extends AbstractScalingExecutor implements Sc
     }
     
     private void instanceChannel(final Collection<Importer> importers) {
-        DistributionChannel channel = new DistributionChannel(importers.size(), records -> {
+        IncrementalDumper incrementalDumper = dumper;
+        channel = new DistributionChannel(importers.size(), records -> {
             Record lastHandledRecord = records.get(records.size() - 1);
             if (!(lastHandledRecord.getPosition() instanceof PlaceholderPosition)) {
-                progress = new IncrementalTaskProgress(lastHandledRecord.getPosition(),
-                        new IncrementalTaskDelay(lastHandledRecord.getCommitTime(), System.currentTimeMillis() - lastHandledRecord.getCommitTime()));
+                progress = new IncrementalTaskProgress(lastHandledRecord.getPosition(), new IncrementalTaskDelay(lastHandledRecord.getCommitTime(),
+                        System.currentTimeMillis() - lastHandledRecord.getCommitTime(), channel.getPendingRecordCount()), incrementalDumper.getThroughput());
             }
         });
-        dumper.setChannel(channel);
+        incrementalDumper.setChannel(channel);
         for (Importer each : importers) {
             each.setChannel(channel);
         }
@@ -34,4 +34,6 @@ public final class IncrementalTaskDelay {
     private long lastEventTimestamps;
     
     private long delayMilliseconds = -1;
+    
+    private long pendingRecordCount;
 }
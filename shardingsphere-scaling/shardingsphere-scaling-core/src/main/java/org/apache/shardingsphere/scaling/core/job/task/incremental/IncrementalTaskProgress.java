@@ -36,4 +36,6 @@ public final class IncrementalTaskProgress implements Progress {
     private final ScalingPosition<?> position;
     
     private IncrementalTaskDelay incrementalTaskDelay = new IncrementalTaskDelay();
+    
+    private IncrementalTaskThroughput incrementalTaskThroughput = new IncrementalTaskThroughput();
 }
@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.MemoryChannel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.scaling.core.job.task.ScalingTask;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Inventory task.
@@ -55,10 +57,16 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     
     private final DataSourceManager dataSourceManager;
     
+    private final AtomicLong importedCount = new AtomicLong();
+    
     private Dumper dumper;
     
     private ScalingPosition<?> position;
     
+    private volatile long startTimeMillis;
+    
+    private volatile long finishTimeMillis;
+    
     public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig) {
         this(inventoryDumperConfig, importerConfig, new DataSourceManager());
     }
@@ -81,6 +89,7 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
         instanceDumper();
         Importer importer = ImporterFactory.newInstance(importerConfig, dataSourceManager);
         instanceChannel(importer);
+        startTimeMillis = System.currentTimeMillis();
         Future<?> future = ScalingContext.getInstance().getImporterExecuteEngine().submit(importer, new ExecuteCallback() {
             
             @Override
@@ -95,6 +104,9 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
         });
         dumper.start();
         waitForResult(future);
+        finishTimeMillis = System.currentTimeMillis();
+        InventoryTaskThroughput throughput = getThroughput();
+        log.info("Inventory task {} imported {} records in {} ms, {} records/s", taskId, throughput.getImportedRecords(), finishTimeMillis - startTimeMillis, throughput.getRecordsPerSecond());
         dataSourceManager.close();
     }
     
@@ -104,6 +116,7 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     
     private void instanceChannel(final Importer importer) {
         MemoryChannel channel = new MemoryChannel(records -> {
+            importedCount.addAndGet(records.stream().filter(each -> each instanceof DataRecord).count());
             Optional<Record> record = records.stream().filter(each -> !(each.getPosition() instanceof PlaceholderPosition)).reduce((a, b) -> b);
             record.ifPresent(value -> position = value.getPosition());
         });
@@ -130,6 +143,15 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     
     @Override
     public InventoryTaskProgress getProgress() {
-        return new InventoryTaskProgress(position);
+        return new InventoryTaskProgress(position, getThroughput());
+    }
+    
+    private InventoryTaskThroughput getThroughput() {
+        if (0 == startTimeMillis) {
+            return new InventoryTaskThroughput();
+        }
+        long importedRecords = importedCount.get();
+        long elapsedMillis = (0 == finishTimeMillis ? System.currentTimeMillis() : finishTimeMillis) - startTimeMillis;
+        return new InventoryTaskThroughput(importedRecords, 0 == elapsedMillis ? importedRecords : importedRecords * 1000 / elapsedMillis);
     }
 }
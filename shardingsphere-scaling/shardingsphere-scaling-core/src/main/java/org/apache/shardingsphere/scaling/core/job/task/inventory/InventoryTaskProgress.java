@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.scaling.core.job.task.inventory;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
 import org.apache.shardingsphere.scaling.core.job.progress.Progress;
 
@@ -26,8 +28,12 @@ import org.apache.shardingsphere.scaling.core.job.progress.Progress;
  * Inventory task progress.
  */
 @RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
+@Setter
 public final class InventoryTaskProgress implements Progress {
     
     private final ScalingPosition<?> position;
+    
+    private InventoryTaskThroughput inventoryTaskThroughput = new InventoryTaskThroughput();
 }
@@ -228,7 +228,7 @@ public final class JobConfigurationUtil {
         filterByShardingDataSourceTables(dataSourceTableNameMap, jobConfig.getHandleConfig());
         Map<String, Set<String>> shardingColumnsMap = getShardingColumnsMap(targetRuleConfig.orElse(sourceRuleConfig));
         for (Entry<String, Map<String, String>> entry : dataSourceTableNameMap.entrySet()) {
-            DumperConfiguration dumperConfig = createDumperConfig(entry.getKey(), sourceDataSource.get(entry.getKey()).getProps(), entry.getValue());
+            DumperConfiguration dumperConfig = createDumperConfig(entry.getKey(), sourceDataSource.get(entry.getKey()).getProps(), entry.getValue(), jobConfig.getHandleConfig());
             ImporterConfiguration importerConfig = createImporterConfig(jobConfig, shardingColumnsMap);
             result.add(new TaskConfiguration(jobConfig.getHandleConfig(), dumperConfig, importerConfig));
         }
@@ -353,11 +353,13 @@ public final class JobConfigurationUtil {
         return Collections.emptySet();
     }
     
-    private static DumperConfiguration createDumperConfig(final String dataSourceName, final Map<String, Object> props, final Map<String, String> tableMap) {
+    private static DumperConfiguration createDumperConfig(final String dataSourceName, final Map<String, Object> props, final Map<String, String> tableMap, final HandleConfiguration handleConfig) {
         DumperConfiguration result = new DumperConfiguration();
         result.setDataSourceName(dataSourceName);
         result.setDataSourceConfig(new StandardJDBCDataSourceConfiguration(YamlEngine.marshal(props)));
         result.setTableNameMap(tableMap);
+        result.setDecodingPlugin(handleConfig.getDecodingPlugin());
+        result.setPublicationName(handleConfig.getPublicationName());
         return result;
     }
     
@@ -135,8 +135,16 @@ public final class GovernanceRepositoryAPIImplTest {
                 + "    delay:\n"
                 + "      delayMilliseconds: -1\n"
                 + "      lastEventTimestamps: 0\n"
+                + "      pendingRecordCount: 0\n"
                 + "    position: ''\n"
+                + "    throughput:\n"
+                + "      eventsPerSecond: 0\n"
+                + "      megabytesPerSecond: 0.0\n"
                 + "inventory:\n"
+                + "  throughput:\n"
+                + "    ds_0.t_order#0:\n"
+                + "      importedRecords: 0\n"
+                + "      recordsPerSecond: 0\n"
                 + "  unfinished:\n"
                 + "    ds_0.t_order#0: ''\n"
                 + "status: RUNNING\n";
@@ -122,6 +122,13 @@ public final class ScalingAPIImplTest {
         assertThat(checkResultMap.get("t_order").getTargetCount(), is(2L));
     }
     
+    @Test
+    public void assertGetDataCheckProgressWithoutRunningCheck() {
+        Optional<Long> jobId = scalingAPI.start(ResourceUtil.mockJobConfig());
+        assertTrue(jobId.isPresent());
+        assertTrue(scalingAPI.getDataCheckProgress(jobId.get()).isEmpty());
+    }
+    
     @Test
     @SneakyThrows(SQLException.class)
     public void assertResetTargetTable() {
@@ -22,9 +22,8 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.BitSet;
-
-import static org.junit.Assert.assertTrue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 
 public final class AutoAcknowledgeChannelTest {
     
@@ -38,8 +37,7 @@ public final class AutoAcknowledgeChannelTest {
     @Test
     public void assertPushRecord() {
         channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
-        BitSet bitSet = channel.getAckBitSet(0);
-        assertTrue(bitSet.get(0));
+        assertThat(channel.getAcknowledgedIndex(), is(1L));
     }
     
     @Test(expected = UnsupportedOperationException.class)
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -33,11 +34,14 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -68,6 +72,65 @@ public final class DistributionChannelTest {
         execute(records -> assertThat(records.size(), is(2)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertGetPendingRecordCount() throws InterruptedException {
+        DistributionChannel distributionChannel = new DistributionChannel(2, records -> {
+        });
+        distributionChannel.pushRecord(new PlaceholderRecord(new IntPosition(1)));
+        distributionChannel.pushRecord(new PlaceholderRecord(new IntPosition(2)));
+        assertThat(distributionChannel.getPendingRecordCount(), is(2L));
+        distributionChannel.close();
+        assertThat(distributionChannel.getPendingRecordCount(), is(0L));
+    }
+    
+    @Test
+    public void assertPushPrimaryKeyChangedRecordAfterOldKeyApplied() throws InterruptedException {
+        int oldKey = 1;
+        int newKey = findKeyOfAnotherChannel(oldKey);
+        List<Record> appliedRecords = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        DistributionChannel distributionChannel = new DistributionChannel(2, records -> {
+        });
+        for (int i = 0; i < 2; i++) {
+            new Thread(() -> {
+                while (true) {
+                    List<Record> records = distributionChannel.fetchRecords(100, 0);
+                    appliedRecords.addAll(records);
+                    distributionChannel.ack();
+                    records.forEach(each -> countDownLatch.countDown());
+                }
+            }).start();
+        }
+        DataRecord insertRecord = mockDataRecord(1, null, oldKey);
+        DataRecord updateRecord = mockDataRecord(2, oldKey, newKey);
+        DataRecord deleteRecord = mockDataRecord(3, null, oldKey);
+        distributionChannel.pushRecord(insertRecord);
+        distributionChannel.pushRecord(updateRecord);
+        distributionChannel.pushRecord(deleteRecord);
+        countDownLatch.await();
+        distributionChannel.close();
+        assertThat(appliedRecords.stream().map(each -> ((IntPosition) each.getPosition()).getId()).collect(Collectors.toList()), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    private int findKeyOfAnotherChannel(final int key) {
+        int result = key + 1;
+        while (getChannelIndex(result) == getChannelIndex(key)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int getChannelIndex(final int key) {
+        return Math.abs(new DataRecord.Key("t_order", Collections.singletonList(key)).hashCode() % 2);
+    }
+    
+    private DataRecord mockDataRecord(final int id, final Integer oldKey, final int key) {
+        DataRecord result = new DataRecord(new IntPosition(id), 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", oldKey, key, true, true));
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int count, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(count);
@@ -46,7 +46,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +60,8 @@ public final class AbstractImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String MULTI_ROW_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ? and user = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
@@ -102,14 +106,29 @@ public final class AbstractImporterTest {
     @Test
     public void assertWriteInsertDataRecord() throws SQLException {
         DataRecord insertRecord = getDataRecord("INSERT");
-        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(scalingSqlBuilder.buildInsertSQL(any(DataRecord.class), eq(2))).thenReturn(MULTI_ROW_INSERT_SQL);
+        when(connection.prepareStatement(MULTI_ROW_INSERT_SQL)).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT", 1));
+        records.add(getDataRecord("INSERT", 2));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(3, "INSERT");
+        verify(preparedStatement).setObject(6, "INSERT");
+        verify(preparedStatement).executeUpdate();
     }
     
     @Test
@@ -176,10 +195,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.core.fixture;
 
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializer;
 
@@ -25,7 +26,7 @@ import javax.sql.DataSource;
 public final class FixturePositionInitializer implements PositionInitializer {
     
     @Override
-    public PlaceholderPosition init(final DataSource dataSource) {
+    public PlaceholderPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) {
         return new PlaceholderPosition();
     }
     
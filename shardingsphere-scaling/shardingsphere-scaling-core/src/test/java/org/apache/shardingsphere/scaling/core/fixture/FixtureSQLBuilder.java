@@ -20,6 +20,7 @@ package org.apache.shardingsphere.scaling.core.fixture;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 public final class FixtureSQLBuilder extends AbstractScalingSQLBuilder {
@@ -37,4 +38,9 @@ public final class FixtureSQLBuilder extends AbstractScalingSQLBuilder {
     protected String getRightIdentifierQuoteString() {
         return "`";
     }
+    
+    @Override
+    public Optional<String> buildEstimatedCountSQL() {
+        return Optional.of("SELECT reltuples FROM pg_class WHERE oid=?");
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskProgress;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
+import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskThroughput;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -42,6 +43,9 @@ public final class JobProgressTest {
         assertThat(jobProgress.getDatabaseType(), is("H2"));
         assertThat(jobProgress.getInventoryTaskProgressMap().size(), is(4));
         assertThat(jobProgress.getIncrementalTaskProgressMap().size(), is(1));
+        assertThat(jobProgress.getInventoryTaskProgressMap().get("ds1.t_2").getInventoryTaskThroughput().getImportedRecords(), is(100L));
+        assertThat(jobProgress.getInventoryTaskProgressMap().get("ds1.t_2").getInventoryTaskThroughput().getRecordsPerSecond(), is(10L));
+        assertThat(jobProgress.getInventoryTaskProgressMap().get("ds1.t_1").getInventoryTaskThroughput().getImportedRecords(), is(0L));
     }
     
     @Test
@@ -78,7 +82,7 @@ public final class JobProgressTest {
         result.put("ds0.t_1", new InventoryTaskProgress(new FinishedPosition()));
         result.put("ds0.t_2", new InventoryTaskProgress(new FinishedPosition()));
         result.put("ds1.t_1", new InventoryTaskProgress(new PlaceholderPosition()));
-        result.put("ds1.t_2", new InventoryTaskProgress(new PrimaryKeyPosition(1, 2)));
+        result.put("ds1.t_2", new InventoryTaskProgress(new PrimaryKeyPosition(1, 2), new InventoryTaskThroughput(100L, 10L)));
         return result;
     }
     
@@ -89,11 +93,28 @@ public final class JobProgressTest {
                 + "    delay:\n"
                 + "      delayMilliseconds: -1\n"
                 + "      lastEventTimestamps: 0\n"
+                + "      pendingRecordCount: 0\n"
                 + "    position: ''\n"
+                + "    throughput:\n"
+                + "      eventsPerSecond: 0\n"
+                + "      megabytesPerSecond: 0.0\n"
                 + "inventory:\n"
                 + "  finished:\n"
                 + "  - ds0.t_2\n"
                 + "  - ds0.t_1\n"
+                + "  throughput:\n"
+                + "    ds0.t_2:\n"
+                + "      importedRecords: 0\n"
+                + "      recordsPerSecond: 0\n"
+                + "    ds1.t_2:\n"
+                + "      importedRecords: 100\n"
+                + "      recordsPerSecond: 10\n"
+                + "    ds0.t_1:\n"
+                + "      importedRecords: 0\n"
+                + "      recordsPerSecond: 0\n"
+                + "    ds1.t_1:\n"
+                + "      importedRecords: 0\n"
+                + "      recordsPerSecond: 0\n"
                 + "  unfinished:\n"
                 + "    ds1.t_2: 1,2\n"
                 + "    ds1.t_1: ''\n"
@@ -36,7 +36,9 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 
 public final class InventoryTaskTest {
     
@@ -69,6 +71,13 @@ public final class InventoryTaskTest {
         assertFalse(inventoryTask.getProgress().getPosition() instanceof FinishedPosition);
     }
     
+    @Test
+    public void assertGetProgressBeforeStart() {
+        InventoryTask inventoryTask = new InventoryTask(new InventoryDumperConfiguration(taskConfig.getDumperConfig()), taskConfig.getImporterConfig(), dataSourceManager);
+        assertThat(inventoryTask.getProgress().getInventoryTaskThroughput().getImportedRecords(), is(0L));
+        assertThat(inventoryTask.getProgress().getInventoryTaskThroughput().getRecordsPerSecond(), is(0L));
+    }
+    
     @After
     public void tearDown() {
         dataSourceManager.close();
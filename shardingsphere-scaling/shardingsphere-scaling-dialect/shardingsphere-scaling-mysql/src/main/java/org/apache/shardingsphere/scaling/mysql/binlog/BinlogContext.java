@@ -23,8 +23,10 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Binlog context.
@@ -39,6 +41,8 @@ public final class BinlogContext {
     
     private Map<Long, MySQLBinlogTableMapEventPacket> tableMap = new HashMap<>();
     
+    private Set<Long> ignoredTableIds = new HashSet<>();
+    
     /**
      * Cache table map event.
      *
@@ -46,9 +50,30 @@ public final class BinlogContext {
      * @param tableMapEventPacket table map event
      */
     public void putTableMapEvent(final long tableId, final MySQLBinlogTableMapEventPacket tableMapEventPacket) {
+        ignoredTableIds.remove(tableId);
         tableMap.put(tableId, tableMapEventPacket);
     }
     
+    /**
+     * Ignore table, rows of ignored table will not be decoded.
+     *
+     * @param tableId table id
+     */
+    public void ignoreTable(final long tableId) {
+        tableMap.remove(tableId);
+        ignoredTableIds.add(tableId);
+    }
+    
+    /**
+     * Judge whether table is ignored.
+     *
+     * @param tableId table id
+     * @return table is ignored or not
+     */
+    public boolean isIgnoredTable(final long tableId) {
+        return ignoredTableIds.contains(tableId);
+    }
+    
     /**
      * Get table map event by table id.
      *
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.binlog;
+
+import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskThroughput;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binlog decode statistics.
+ */
+public final class BinlogDecodeStatistics {
+    
+    private static final long SAMPLE_INTERVAL_MILLIS = 1000L;
+    
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+    
+    private final AtomicLong eventCount = new AtomicLong();
+    
+    private final AtomicLong byteCount = new AtomicLong();
+    
+    private long lastSampleMillis = System.currentTimeMillis();
+    
+    private long lastEventCount;
+    
+    private long lastByteCount;
+    
+    private IncrementalTaskThroughput lastThroughput = new IncrementalTaskThroughput();
+    
+    /**
+     * Record one decoded binlog event.
+     *
+     * @param eventBytes bytes of event
+     */
+    public void record(final int eventBytes) {
+        eventCount.incrementAndGet();
+        byteCount.addAndGet(eventBytes);
+    }
+    
+    /**
+     * Get decoded event count.
+     *
+     * @return decoded event count
+     */
+    public long getEventCount() {
+        return eventCount.get();
+    }
+    
+    /**
+     * Get decoded byte count.
+     *
+     * @return decoded byte count
+     */
+    public long getByteCount() {
+        return byteCount.get();
+    }
+    
+    /**
+     * Get throughput since last sample, resampled at most once per second.
+     *
+     * @return incremental task throughput
+     */
+    public synchronized IncrementalTaskThroughput getThroughput() {
+        long currentMillis = System.currentTimeMillis();
+        long intervalMillis = currentMillis - lastSampleMillis;
+        if (intervalMillis < SAMPLE_INTERVAL_MILLIS) {
+            return lastThroughput;
+        }
+        long currentEventCount = eventCount.get();
+        long currentByteCount = byteCount.get();
+        lastThroughput = new IncrementalTaskThroughput((currentEventCount - lastEventCount) * 1000 / intervalMillis,
+                (currentByteCount - lastByteCount) * 1000 / BYTES_PER_MEGABYTE / intervalMillis);
+        lastSampleMillis = currentMillis;
+        lastEventCount = currentEventCount;
+        lastByteCount = currentByteCount;
+        return lastThroughput;
+    }
+}
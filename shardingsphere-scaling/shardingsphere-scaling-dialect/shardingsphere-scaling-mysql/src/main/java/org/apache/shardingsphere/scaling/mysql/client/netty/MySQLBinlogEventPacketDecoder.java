@@ -25,6 +25,8 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogContext;
+import org.apache.shardingsphere.scaling.mysql.binlog.BinlogDecodeStatistics;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
@@ -36,6 +38,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import java.util.List;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -45,13 +48,24 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final BiPredicate<String, String> tableFilter;
+    
+    private final BinlogDecodeStatistics decodeStatistics;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, (schemaName, tableName) -> true, new BinlogDecodeStatistics());
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final BiPredicate<String, String> tableFilter, final BinlogDecodeStatistics decodeStatistics) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.tableFilter = tableFilter;
+        this.decodeStatistics = decodeStatistics;
     }
     
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        decodeStatistics.record(in.readableBytes());
         MySQLPacketPayload payload = new MySQLPacketPayload(in);
         skipSequenceId(payload);
         checkError(payload);
@@ -69,15 +83,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 break;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                out.add(decodeWriteRowsEventV2(binlogEventHeader, payload));
-                break;
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                out.add(decodeUpdateRowsEventV2(binlogEventHeader, payload));
-                break;
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                out.add(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload));
                 break;
             default:
                 out.add(createPlaceholderEvent(binlogEventHeader));
@@ -123,21 +133,40 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private void decodeTableMapEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogTableMapEventPacket tableMapEventPacket = new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload);
-        binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
+        if (tableFilter.test(tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName())) {
+            binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
+        } else {
+            binlogContext.ignoreTable(tableMapEventPacket.getTableId());
+        }
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private AbstractBinlogEvent decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        if (binlogContext.isIgnoredTable(rowsEventPacket.getTableId())) {
+            payload.skipReserved(payload.getByteBuf().readableBytes());
+            return createPlaceholderEvent(binlogEventHeader);
+        }
         rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType())) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                return decodeWriteRowsEventV2(binlogEventHeader, rowsEventPacket);
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                return decodeUpdateRowsEventV2(binlogEventHeader, rowsEventPacket);
+            default:
+                return decodeDeleteRowsEventV2(binlogEventHeader, rowsEventPacket);
+        }
+    }
+    
+    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
@@ -145,9 +174,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setAfterRows(rowsEventPacket.getRows());
@@ -168,6 +195,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         result.setFileName(binlogContext.getFileName());
         result.setPosition(binlogEventHeader.getLogPos());
         result.setTimestamp(binlogEventHeader.getTimestamp());
+        result.setServerId(binlogEventHeader.getServerId());
         return result;
     }
 }
@@ -37,6 +37,8 @@ import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.executor.dumper.IncrementalDumper;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTaskThroughput;
+import org.apache.shardingsphere.scaling.mysql.binlog.BinlogDecodeStatistics;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogPosition;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractRowsEvent;
@@ -74,6 +76,8 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private final Random random = new SecureRandom();
     
+    private final BinlogDecodeStatistics decodeStatistics = new BinlogDecodeStatistics();
+    
     @Setter
     private Channel channel;
     
@@ -100,6 +104,8 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         HikariConfig hikariConfig = ((StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig()).getHikariConfig();
         JdbcUri uri = new JdbcUri(hikariConfig.getJdbcUrl());
         MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), uri.getHostname(), uri.getPort(), hikariConfig.getUsername(), hikariConfig.getPassword()));
+        client.setTableFilter((schemaName, tableName) -> isMigratedTable(uri.getDatabase(), schemaName, tableName));
+        client.setDecodeStatistics(decodeStatistics);
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
         while (isRunning()) {
@@ -126,7 +132,11 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     }
     
     private boolean filter(final String database, final AbstractRowsEvent event) {
-        return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
+        return !isMigratedTable(database, event.getSchemaName(), event.getTableName());
+    }
+    
+    private boolean isMigratedTable(final String database, final String schemaName, final String tableName) {
+        return schemaName.equals(database) && dumperConfig.getTableNameMap().containsKey(tableName);
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event) {
@@ -193,6 +203,11 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         pushRecord(record);
     }
     
+    @Override
+    public IncrementalTaskThroughput getThroughput() {
+        return decodeStatistics.getThroughput();
+    }
+    
     private void pushRecord(final Record record) {
         try {
             channel.pushRecord(record);
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.mysql.component;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializer;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogPosition;
 
@@ -33,7 +34,7 @@ import java.sql.SQLException;
 public final class MySQLPositionInitializer implements PositionInitializer {
     
     @Override
-    public BinlogPosition init(final DataSource dataSource) throws SQLException {
+    public BinlogPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             BinlogPosition result = getBinlogPosition(connection);
             result.setServerId(getServerId(connection));
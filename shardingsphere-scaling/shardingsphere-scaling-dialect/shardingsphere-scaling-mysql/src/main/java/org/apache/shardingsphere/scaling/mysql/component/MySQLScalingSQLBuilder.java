@@ -21,7 +21,9 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -44,8 +46,13 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
+        return buildDuplicateUpdateSQL(dataRecord);
+    }
+    
+    @Override
+    public Optional<String> buildEstimatedCountSQL() {
+        return Optional.of("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=?");
     }
     
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
@@ -77,4 +84,31 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     public String buildSumCrc32SQL(final String tableName, final String column) {
         return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
     }
+    
+    /**
+     * Build select row count and primary key bound SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return select row count and primary key bound SQL
+     */
+    public String buildPrimaryKeyBoundSQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT COUNT(1), MIN(%s), MAX(%s) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
+    
+    /**
+     * Build select row count and sum crc32 of whole rows in primary key range SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param columns columns
+     * @return select row count and sum crc32 of rows SQL
+     */
+    public String buildChunkChecksumSQL(final String tableName, final String primaryKey, final Collection<String> columns) {
+        StringBuilder rowValues = new StringBuilder();
+        for (String each : columns) {
+            rowValues.append(", ISNULL(").append(quote(each)).append("), ").append(quote(each));
+        }
+        return String.format("SELECT COUNT(1), SUM(CRC32(CONCAT_WS('#'%s))) FROM %s WHERE %s BETWEEN ? AND ?", rowValues, quote(tableName), quote(primaryKey));
+    }
 }
@@ -17,42 +17,95 @@
 
 package org.apache.shardingsphere.scaling.mysql.component.checker;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
 import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckProgress;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLScalingSQLBuilder;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * MySQL data consistency checker.
+ *
+ * <p>Tables with single integer primary key are split into primary key ranges, each range is checked in parallel by row count and sum of crc32 of whole rows,
+ * and mismatched ranges are split again until the mismatched rows are located in small ranges.
+ * Primary key values are handled as big integers, so signed ranges wider than long and unsigned bigint values do not overflow.
+ * Other tables are checked by sum of crc32 of each column.</p>
  */
+@Slf4j
 public final class MySQLDataConsistencyChecker extends AbstractDataConsistencyChecker {
     
+    private static final long CHUNK_SIZE = 100000L;
+    
+    private static final int DRILL_DOWN_PARTS = 10;
+    
+    private static final BigInteger DRILL_DOWN_MIN_RANGE = BigInteger.valueOf(1000L);
+    
+    private static final int MAX_CHECK_THREAD = 8;
+    
+    private final Map<String, DataCheckProgress> dataCheckProgress = new ConcurrentHashMap<>();
+    
     public MySQLDataConsistencyChecker(final JobContext jobContext) {
         super(jobContext);
     }
     
     @Override
     public Map<String, Boolean> dataCheck() {
-        return distinctByValue(getJobContext().getTaskConfigs()
+        Map<String, String> tableNameMap = distinctByValue(getJobContext().getTaskConfigs()
                 .stream().flatMap(each -> each.getDumperConfig().getTableNameMap().entrySet().stream())
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)))
-                .entrySet().stream().collect(Collectors.toMap(Entry::getValue, entry -> dataValid(entry.getKey(), entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        Map<String, Boolean> result = new LinkedHashMap<>(tableNameMap.size(), 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(getCheckThreadCount(), ExecutorThreadFactoryBuilder.build("scaling-data-check-%d"));
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            for (Entry<String, String> entry : tableNameMap.entrySet()) {
+                result.put(entry.getValue(), dataValid(sourceDataSource, targetDataSource, executorService, entry.getKey(), entry.getValue()));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executorService.shutdownNow();
+        }
+        return result;
+    }
+    
+    @Override
+    public Map<String, DataCheckProgress> getDataCheckProgress() {
+        return dataCheckProgress;
     }
     
     private Map<String, String> distinctByValue(final Map<String, String> tableNameMap) {
@@ -61,22 +114,27 @@ public final class MySQLDataConsistencyChecker extends AbstractDataConsistencyCh
                 .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
-    private boolean dataValid(final String actualTableName, final String logicTableName) {
-        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
-             DataSourceWrapper targetDataSource = getTargetDataSource()) {
-            return getColumns(actualTableName).stream().allMatch(each -> sumCrc32(sourceDataSource, logicTableName, each) == sumCrc32(targetDataSource, logicTableName, each));
-        } catch (final SQLException ex) {
-            throw new DataCheckFailException(String.format("table %s data check failed.", logicTableName), ex);
+    private int getCheckThreadCount() {
+        ServerConfiguration serverConfig = ScalingContext.getInstance().getServerConfig();
+        return null == serverConfig ? MAX_CHECK_THREAD : Math.max(1, Math.min(MAX_CHECK_THREAD, serverConfig.getWorkerThread()));
+    }
+    
+    private boolean dataValid(final DataSource sourceDataSource, final DataSource targetDataSource, final ExecutorService executorService,
+                              final String actualTableName, final String logicTableName) {
+        Map<String, Integer> columnTypes = getColumnTypes(sourceDataSource, actualTableName);
+        Optional<String> primaryKey = getIntegerPrimaryKey(sourceDataSource, actualTableName, columnTypes);
+        if (primaryKey.isPresent()) {
+            return chunkedDataValid(sourceDataSource, targetDataSource, executorService, logicTableName, primaryKey.get(), columnTypes.keySet());
         }
+        return columnTypes.keySet().stream().allMatch(each -> sumCrc32(sourceDataSource, logicTableName, each) == sumCrc32(targetDataSource, logicTableName, each));
     }
     
-    private List<String> getColumns(final String tableName) {
-        List<String> result = new ArrayList<>();
-        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
-             Connection connection = sourceDataSource.getConnection();
+    private Map<String, Integer> getColumnTypes(final DataSource dataSource, final String tableName) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection();
              ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), null, tableName, "%")) {
             while (resultSet.next()) {
-                result.add(resultSet.getString(4));
+                result.put(resultSet.getString(4), resultSet.getInt(5));
             }
         } catch (final SQLException ex) {
             throw new DataCheckFailException("get columns failed.", ex);
@@ -84,6 +142,127 @@ public final class MySQLDataConsistencyChecker extends AbstractDataConsistencyCh
         return result;
     }
     
+    private Optional<String> getIntegerPrimaryKey(final DataSource dataSource, final String tableName, final Map<String, Integer> columnTypes) {
+        List<String> primaryKeys = new ArrayList<>(1);
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getPrimaryKeys(connection.getCatalog(), null, tableName)) {
+            while (resultSet.next()) {
+                primaryKeys.add(resultSet.getString("COLUMN_NAME"));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("get primary keys failed.", ex);
+        }
+        if (1 != primaryKeys.size() || !isIntegerType(columnTypes.get(primaryKeys.get(0)))) {
+            return Optional.empty();
+        }
+        return Optional.of(primaryKeys.get(0));
+    }
+    
+    private boolean isIntegerType(final Integer columnType) {
+        return null != columnType && (Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType);
+    }
+    
+    boolean chunkedDataValid(final DataSource sourceDataSource, final DataSource targetDataSource, final ExecutorService executorService,
+                             final String tableName, final String primaryKey, final Collection<String> columns) {
+        MySQLScalingSQLBuilder sqlBuilder = getSQLBuilder();
+        String boundSQL = sqlBuilder.buildPrimaryKeyBoundSQL(tableName, primaryKey);
+        Optional<PrimaryKeyBound> sourceBound = getPrimaryKeyBound(sourceDataSource, boundSQL);
+        Optional<PrimaryKeyBound> targetBound = getPrimaryKeyBound(targetDataSource, boundSQL);
+        if (!sourceBound.isPresent() || !targetBound.isPresent()) {
+            return sourceBound.isPresent() == targetBound.isPresent();
+        }
+        long rowCount = Math.max(sourceBound.get().getRowCount(), targetBound.get().getRowCount());
+        List<KeyRange> chunks = splitRange(sourceBound.get().getMinValue().min(targetBound.get().getMinValue()),
+                sourceBound.get().getMaxValue().max(targetBound.get().getMaxValue()), (int) Math.min(Integer.MAX_VALUE, (rowCount + CHUNK_SIZE - 1) / CHUNK_SIZE));
+        DataCheckProgress progress = new DataCheckProgress(chunks.size());
+        dataCheckProgress.put(tableName, progress);
+        String checksumSQL = sqlBuilder.buildChunkChecksumSQL(tableName, primaryKey, columns);
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (KeyRange each : chunks) {
+            futures.add(executorService.submit(() -> checkChunk(sourceDataSource, targetDataSource, checksumSQL, each, progress)));
+        }
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException | ExecutionException ex) {
+                throw new DataCheckFailException(String.format("table %s data check failed.", tableName), ex);
+            }
+        }
+        log.info("Table {} data check finished, progress {}", tableName, progress);
+        return progress.getMismatchedRanges().isEmpty();
+    }
+    
+    private Optional<PrimaryKeyBound> getPrimaryKeyBound(final DataSource dataSource, final String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || 0 == resultSet.getLong(1)) {
+                return Optional.empty();
+            }
+            return Optional.of(new PrimaryKeyBound(resultSet.getLong(1), resultSet.getBigDecimal(2).toBigInteger(), resultSet.getBigDecimal(3).toBigInteger()));
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+    }
+    
+    List<KeyRange> splitRange(final BigInteger beginValue, final BigInteger endValue, final int parts) {
+        List<KeyRange> result = new ArrayList<>(parts + 1);
+        BigInteger divisor = BigInteger.valueOf(Math.max(1, parts));
+        BigInteger step = endValue.divide(divisor).subtract(beginValue.divide(divisor)).add(BigInteger.ONE).max(BigInteger.ONE);
+        BigInteger begin = beginValue;
+        BigInteger end = begin.add(step).subtract(BigInteger.ONE);
+        while (end.compareTo(endValue) < 0) {
+            result.add(new KeyRange(begin, end));
+            begin = end.add(BigInteger.ONE);
+            end = begin.add(step).subtract(BigInteger.ONE);
+        }
+        result.add(new KeyRange(begin, endValue));
+        return result;
+    }
+    
+    void checkChunk(final DataSource sourceDataSource, final DataSource targetDataSource, final String checksumSQL, final KeyRange chunk, final DataCheckProgress progress) {
+        ChunkChecksum sourceChecksum = getChunkChecksum(sourceDataSource, checksumSQL, chunk);
+        ChunkChecksum targetChecksum = getChunkChecksum(targetDataSource, checksumSQL, chunk);
+        Collection<String> mismatchedRanges = Collections.emptyList();
+        if (!sourceChecksum.equals(targetChecksum)) {
+            mismatchedRanges = drillDown(sourceDataSource, targetDataSource, checksumSQL, chunk);
+            if (mismatchedRanges.isEmpty()) {
+                mismatchedRanges = Collections.singletonList(chunk.toString());
+            }
+        }
+        progress.finishChunk(sourceChecksum.getRowCount(), mismatchedRanges);
+        if (log.isDebugEnabled()) {
+            log.debug("Data check chunk {} finished, progress {}", chunk, progress);
+        }
+    }
+    
+    Collection<String> drillDown(final DataSource sourceDataSource, final DataSource targetDataSource, final String checksumSQL, final KeyRange range) {
+        if (range.getEndValue().subtract(range.getBeginValue()).compareTo(DRILL_DOWN_MIN_RANGE) < 0) {
+            return Collections.singletonList(range.toString());
+        }
+        Collection<String> result = new LinkedList<>();
+        for (KeyRange each : splitRange(range.getBeginValue(), range.getEndValue(), DRILL_DOWN_PARTS)) {
+            if (!getChunkChecksum(sourceDataSource, checksumSQL, each).equals(getChunkChecksum(targetDataSource, checksumSQL, each))) {
+                result.addAll(drillDown(sourceDataSource, targetDataSource, checksumSQL, each));
+            }
+        }
+        return result;
+    }
+    
+    private ChunkChecksum getChunkChecksum(final DataSource dataSource, final String sql, final KeyRange range) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setBigDecimal(1, new BigDecimal(range.getBeginValue()));
+            preparedStatement.setBigDecimal(2, new BigDecimal(range.getEndValue()));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return new ChunkChecksum(resultSet.getLong(1), resultSet.getLong(2));
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+    }
+    
     private long sumCrc32(final DataSource dataSource, final String tableName, final String column) {
         String sql = getSQLBuilder().buildSumCrc32SQL(tableName, column);
         try (Connection connection = dataSource.getConnection();
@@ -100,4 +279,39 @@ public final class MySQLDataConsistencyChecker extends AbstractDataConsistencyCh
     protected MySQLScalingSQLBuilder getSQLBuilder() {
         return new MySQLScalingSQLBuilder(new HashMap<>());
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PrimaryKeyBound {
+        
+        private final long rowCount;
+        
+        private final BigInteger minValue;
+        
+        private final BigInteger maxValue;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class KeyRange {
+        
+        private final BigInteger beginValue;
+        
+        private final BigInteger endValue;
+        
+        @Override
+        public String toString() {
+            return beginValue + "," + endValue;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class ChunkChecksum {
+        
+        private final long rowCount;
+        
+        private final long checksum;
+    }
 }
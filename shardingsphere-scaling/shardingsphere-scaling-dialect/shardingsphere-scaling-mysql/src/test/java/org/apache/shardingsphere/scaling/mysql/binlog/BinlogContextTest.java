@@ -27,7 +27,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -80,4 +83,14 @@ public final class BinlogContextTest {
         binlogContext.putTableMapEvent(TEST_TABLE_ID, tableMapEventPacket);
         assertThat(binlogContext.getTableMapEvent(TEST_TABLE_ID), is(tableMapEventPacket));
     }
+    
+    @Test
+    public void assertIgnoreTable() {
+        binlogContext.putTableMapEvent(TEST_TABLE_ID, tableMapEventPacket);
+        binlogContext.ignoreTable(TEST_TABLE_ID);
+        assertTrue(binlogContext.isIgnoredTable(TEST_TABLE_ID));
+        assertNull(binlogContext.getTableMapEvent(TEST_TABLE_ID));
+        binlogContext.putTableMapEvent(TEST_TABLE_ID, tableMapEventPacket);
+        assertFalse(binlogContext.isIgnoredTable(TEST_TABLE_ID));
+    }
 }
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogContext;
+import org.apache.shardingsphere.scaling.mysql.binlog.BinlogDecodeStatistics;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
 import org.junit.Before;
@@ -101,6 +103,31 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(binlogContext.getTableMap().get(0L), instanceOf(MySQLBinlogTableMapEventPacket.class));
     }
     
+    @Test
+    public void assertDecodeTableMapEventWithFilteredTable() throws NoSuchFieldException, IllegalAccessException {
+        BinlogDecodeStatistics decodeStatistics = new BinlogDecodeStatistics();
+        MySQLBinlogEventPacketDecoder filteredDecoder = new MySQLBinlogEventPacketDecoder(4, (schemaName, tableName) -> false, decodeStatistics);
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.TABLE_MAP_EVENT.getValue(), (short) 0);
+        List<Object> decodedEvents = new LinkedList<>();
+        filteredDecoder.decode(null, byteBuf, decodedEvents);
+        assertTrue(decodedEvents.isEmpty());
+        BinlogContext filteredBinlogContext = ReflectionUtil.getFieldValue(filteredDecoder, "binlogContext", BinlogContext.class);
+        assertTrue(filteredBinlogContext.getTableMap().isEmpty());
+        assertTrue(filteredBinlogContext.isIgnoredTable(0L));
+        assertThat(decodeStatistics.getEventCount(), is(1L));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventWithIgnoredTable() {
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+        when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+        binlogContext.ignoreTable(0L);
+        List<Object> decodedEvents = new LinkedList<>();
+        binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(PlaceholderEvent.class));
+    }
+    
     @Test
     public void assertDecodeWriteRowEvent() {
         when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.scaling.mysql.component;
 
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogPosition;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,7 +63,7 @@ public final class MySQLPositionInitializerTest {
     @Test
     public void assertGetCurrentPosition() throws SQLException {
         MySQLPositionInitializer mySQLPositionInitializer = new MySQLPositionInitializer();
-        BinlogPosition actual = mySQLPositionInitializer.init(dataSource);
+        BinlogPosition actual = mySQLPositionInitializer.init(dataSource, new DumperConfiguration());
         assertThat(actual.getServerId(), is(SERVER_ID));
         assertThat(actual.getFilename(), is(LOG_FILE_NAME));
         assertThat(actual.getPosition(), is(LOG_POSITION));
@@ -23,11 +23,14 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class MySQLScalingSQLBuilderTest {
     
@@ -45,12 +48,36 @@ public final class MySQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
     }
     
+    @Test
+    public void assertBuildPrimaryKeyBoundSQL() {
+        assertThat(sqlBuilder.buildPrimaryKeyBoundSQL("t2", "id"), is("SELECT COUNT(1), MIN(`id`), MAX(`id`) FROM `t2`"));
+    }
+    
+    @Test
+    public void assertBuildChunkChecksumSQL() {
+        String actual = sqlBuilder.buildChunkChecksumSQL("t2", "id", Arrays.asList("id", "name"));
+        assertThat(actual, is("SELECT COUNT(1), SUM(CRC32(CONCAT_WS('#', ISNULL(`id`), `id`, ISNULL(`name`), `name`))) FROM `t2` WHERE `id` BETWEEN ? AND ?"));
+    }
+    
+    @Test
+    public void assertBuildEstimatedCountSQL() {
+        Optional<String> actual = sqlBuilder.buildEstimatedCountSQL();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=DATABASE() AND TABLE_NAME=?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.component.checker;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.check.consistency.DataCheckProgress;
+import org.apache.shardingsphere.scaling.mysql.component.checker.MySQLDataConsistencyChecker.KeyRange;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLDataConsistencyCheckerTest {
+    
+    private static final BigInteger UNSIGNED_BIGINT_MAX_VALUE = new BigInteger("18446744073709551615");
+    
+    private static final String CHECKSUM_SQL = "SELECT COUNT(1), SUM(CRC32(CONCAT_WS('#', ISNULL(`id`), `id`))) FROM `t_order` WHERE `id` BETWEEN ? AND ?";
+    
+    private MySQLDataConsistencyChecker dataConsistencyChecker;
+    
+    @Before
+    public void setUp() {
+        dataConsistencyChecker = new MySQLDataConsistencyChecker(mock(JobContext.class));
+    }
+    
+    @Test
+    public void assertSplitRange() {
+        List<KeyRange> actual = dataConsistencyChecker.splitRange(BigInteger.valueOf(1L), BigInteger.valueOf(100L), 4);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).toString(), is("1,26"));
+        assertThat(actual.get(1).toString(), is("27,52"));
+        assertThat(actual.get(2).toString(), is("53,78"));
+        assertThat(actual.get(3).toString(), is("79,100"));
+    }
+    
+    @Test
+    public void assertSplitRangeWithSingleKey() {
+        List<KeyRange> actual = dataConsistencyChecker.splitRange(BigInteger.valueOf(5L), BigInteger.valueOf(5L), 1);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).toString(), is("5,5"));
+    }
+    
+    @Test
+    public void assertSplitRangeWithFullSignedRange() {
+        List<KeyRange> actual = dataConsistencyChecker.splitRange(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE), 4);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).getBeginValue(), is(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertThat(actual.get(3).getEndValue(), is(BigInteger.valueOf(Long.MAX_VALUE)));
+        for (int i = 1; i < actual.size(); i++) {
+            assertThat(actual.get(i).getBeginValue(), is(actual.get(i - 1).getEndValue().add(BigInteger.ONE)));
+        }
+    }
+    
+    @Test
+    public void assertSplitRangeWithUnsignedBigInt() {
+        List<KeyRange> actual = dataConsistencyChecker.splitRange(BigInteger.ZERO, UNSIGNED_BIGINT_MAX_VALUE, 2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).toString(), is("0,9223372036854775807"));
+        assertThat(actual.get(1).toString(), is("9223372036854775808,18446744073709551615"));
+    }
+    
+    @Test
+    public void assertChunkedDataValidWithEmptyTables() throws SQLException {
+        assertTrue(chunkedDataValid(mockDataSource(new TreeMap<>()), mockDataSource(new TreeMap<>())));
+        assertNull(dataConsistencyChecker.getDataCheckProgress().get("t_order"));
+    }
+    
+    @Test
+    public void assertChunkedDataValidWithEmptyTargetTable() throws SQLException {
+        assertFalse(chunkedDataValid(mockDataSource(createRows(1L, 10L)), mockDataSource(new TreeMap<>())));
+    }
+    
+    @Test
+    public void assertChunkedDataValidWithSingleKey() throws SQLException {
+        assertTrue(chunkedDataValid(mockDataSource(createRows(7L, 7L)), mockDataSource(createRows(7L, 7L))));
+        DataCheckProgress actual = dataConsistencyChecker.getDataCheckProgress().get("t_order");
+        assertThat(actual.getChunkCount(), is(1));
+        assertThat(actual.getCheckedChunkCount().get(), is(1));
+        assertThat(actual.getCheckedRowCount().get(), is(1L));
+        assertTrue(actual.getMismatchedRanges().isEmpty());
+    }
+    
+    @Test
+    public void assertChunkedDataValidWithMismatchedRow() throws SQLException {
+        NavigableMap<BigInteger, Long> targetRows = createRows(1L, 5000L);
+        targetRows.put(BigInteger.valueOf(4321L), 0L);
+        assertFalse(chunkedDataValid(mockDataSource(createRows(1L, 5000L)), mockDataSource(targetRows)));
+        DataCheckProgress actual = dataConsistencyChecker.getDataCheckProgress().get("t_order");
+        assertThat(actual.getCheckedRowCount().get(), is(5000L));
+        assertThat(actual.getMismatchedRanges().size(), is(1));
+        assertThat(actual.getMismatchedRanges().iterator().next(), is("4009,4509"));
+    }
+    
+    @Test
+    public void assertChunkedDataValidWithUnsignedBigIntKeys() throws SQLException {
+        BigInteger beginValue = UNSIGNED_BIGINT_MAX_VALUE.subtract(BigInteger.valueOf(99L));
+        NavigableMap<BigInteger, Long> targetRows = createRows(beginValue, UNSIGNED_BIGINT_MAX_VALUE);
+        targetRows.put(UNSIGNED_BIGINT_MAX_VALUE, 0L);
+        assertFalse(chunkedDataValid(mockDataSource(createRows(beginValue, UNSIGNED_BIGINT_MAX_VALUE)), mockDataSource(targetRows)));
+        DataCheckProgress actual = dataConsistencyChecker.getDataCheckProgress().get("t_order");
+        assertThat(actual.getCheckedRowCount().get(), is(100L));
+        assertThat(actual.getMismatchedRanges().iterator().next(), is(beginValue + "," + UNSIGNED_BIGINT_MAX_VALUE));
+    }
+    
+    @Test
+    public void assertDrillDownWithMismatchedRow() throws SQLException {
+        NavigableMap<BigInteger, Long> targetRows = createRows(1L, 5000L);
+        targetRows.remove(BigInteger.valueOf(1234L));
+        Collection<String> actual = dataConsistencyChecker.drillDown(mockDataSource(createRows(1L, 5000L)), mockDataSource(targetRows), CHECKSUM_SQL, createKeyRange(1L, 5000L));
+        assertThat(actual, is(Collections.singletonList("1003,1503")));
+    }
+    
+    @Test
+    public void assertDrillDownWithSmallRange() throws SQLException {
+        Collection<String> actual = dataConsistencyChecker.drillDown(mockDataSource(createRows(1L, 10L)), mockDataSource(createRows(1L, 9L)), CHECKSUM_SQL, createKeyRange(1L, 10L));
+        assertThat(actual, is(Collections.singletonList("1,10")));
+    }
+    
+    @Test
+    public void assertCheckMatchedChunk() throws SQLException {
+        DataCheckProgress progress = new DataCheckProgress(1);
+        dataConsistencyChecker.checkChunk(mockDataSource(createRows(1L, 100L)), mockDataSource(createRows(1L, 100L)), CHECKSUM_SQL, createKeyRange(1L, 100L), progress);
+        assertThat(progress.getCheckedChunkCount().get(), is(1));
+        assertThat(progress.getCheckedRowCount().get(), is(100L));
+        assertTrue(progress.getMismatchedRanges().isEmpty());
+    }
+    
+    private boolean chunkedDataValid(final DataSource sourceDataSource, final DataSource targetDataSource) {
+        return dataConsistencyChecker.chunkedDataValid(sourceDataSource, targetDataSource, MoreExecutors.newDirectExecutorService(), "t_order", "id", Collections.singletonList("id"));
+    }
+    
+    private KeyRange createKeyRange(final long beginValue, final long endValue) {
+        return new KeyRange(BigInteger.valueOf(beginValue), BigInteger.valueOf(endValue));
+    }
+    
+    private NavigableMap<BigInteger, Long> createRows(final long beginValue, final long endValue) {
+        return createRows(BigInteger.valueOf(beginValue), BigInteger.valueOf(endValue));
+    }
+    
+    private NavigableMap<BigInteger, Long> createRows(final BigInteger beginValue, final BigInteger endValue) {
+        NavigableMap<BigInteger, Long> result = new TreeMap<>();
+        for (BigInteger i = beginValue; i.compareTo(endValue) <= 0; i = i.add(BigInteger.ONE)) {
+            result.put(i, i.longValue() & 0xFFFFFFFFL);
+        }
+        return result;
+    }
+    
+    private DataSource mockDataSource(final NavigableMap<BigInteger, Long> rows) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mockPreparedStatement(invocation.getArgument(0), rows));
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final String sql, final NavigableMap<BigInteger, Long> rows) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        BigInteger[] range = {BigInteger.valueOf(Long.MIN_VALUE), UNSIGNED_BIGINT_MAX_VALUE};
+        doAnswer(invocation -> {
+            range[(int) invocation.getArgument(0) - 1] = ((BigDecimal) invocation.getArgument(1)).toBigInteger();
+            return null;
+        }).when(result).setBigDecimal(anyInt(), any(BigDecimal.class));
+        when(result.executeQuery()).thenAnswer(invocation -> sql.startsWith("SELECT COUNT(1), MIN(") ? mockBoundResultSet(rows) : mockChecksumResultSet(rows.subMap(range[0], true, range[1], true)));
+        return result;
+    }
+    
+    private ResultSet mockBoundResultSet(final NavigableMap<BigInteger, Long> rows) throws SQLException {
+        ResultSet result = mockResultSet(rows.size());
+        if (!rows.isEmpty()) {
+            when(result.getBigDecimal(2)).thenReturn(new BigDecimal(rows.firstKey()));
+            when(result.getBigDecimal(3)).thenReturn(new BigDecimal(rows.lastKey()));
+        }
+        return result;
+    }
+    
+    private ResultSet mockChecksumResultSet(final NavigableMap<BigInteger, Long> rows) throws SQLException {
+        return mockResultSet(rows.size(), rows.values().stream().mapToLong(Long::longValue).sum());
+    }
+    
+    private ResultSet mockResultSet(final long... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(anyInt())).thenAnswer(invocation -> values[(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+}
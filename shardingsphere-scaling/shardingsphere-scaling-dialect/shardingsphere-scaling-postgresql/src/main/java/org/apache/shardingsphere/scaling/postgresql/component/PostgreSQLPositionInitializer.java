@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializer;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLException;
 
@@ -35,14 +40,12 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     public static final String SLOT_NAME = "sharding_scaling";
     
-    public static final String DECODE_PLUGIN = "test_decoding";
-    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
-    public WalPosition init(final DataSource dataSource) throws SQLException {
+    public WalPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createIfNotExists(connection);
+            createIfNotExists(connection, dumperConfig);
             return getWalPosition(connection);
         }
     }
@@ -52,8 +55,16 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WalPosition(LogSequenceNumber.valueOf(Long.parseLong(data)));
     }
     
-    private void createIfNotExists(final Connection connection) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN))) {
+    private void createIfNotExists(final Connection connection, final DumperConfiguration dumperConfig) throws SQLException {
+        String decodingPlugin = dumperConfig.getDecodingPlugin();
+        Preconditions.checkArgument(TestDecodingPlugin.PLUGIN_NAME.equals(decodingPlugin) || PgOutputDecodingPlugin.PLUGIN_NAME.equals(decodingPlugin),
+                "Unsupported decoding plugin `%s`, only `%s` and `%s` are supported.", decodingPlugin, TestDecodingPlugin.PLUGIN_NAME, PgOutputDecodingPlugin.PLUGIN_NAME);
+        if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(decodingPlugin)) {
+            checkPublication(connection, dumperConfig.getPublicationName());
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot(?, ?)")) {
+            ps.setString(1, SLOT_NAME);
+            ps.setString(2, decodingPlugin);
             ps.execute();
         } catch (final PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -62,6 +73,22 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private void checkPublication(final Connection connection, final String publicationName) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            throw new PrepareFailedException(String.format("Decoding plugin `%s` requires PostgreSQL 10 or later.", PgOutputDecodingPlugin.PLUGIN_NAME));
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(1) FROM pg_publication WHERE pubname = ?")) {
+            ps.setString(1, publicationName);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                if (0 == rs.getInt(1)) {
+                    throw new PrepareFailedException(
+                            String.format("Publication `%s` does not exist, please create it before using decoding plugin `%s`.", publicationName, PgOutputDecodingPlugin.PLUGIN_NAME));
+                }
+            }
+        }
+    }
+    
     private WalPosition getWalPosition(final Connection connection) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(getSql(connection));
              ResultSet rs = ps.executeQuery()) {
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -45,8 +46,13 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
+    protected String buildInsertSQLSuffix(final DataRecord dataRecord) {
+        return buildConflictSQL(dataRecord);
+    }
+    
+    @Override
+    public Optional<String> buildEstimatedCountSQL() {
+        return Optional.of("SELECT reltuples::BIGINT FROM pg_class WHERE oid=quote_ident(?)::regclass");
     }
     
     private String buildConflictSQL(final DataRecord dataRecord) {
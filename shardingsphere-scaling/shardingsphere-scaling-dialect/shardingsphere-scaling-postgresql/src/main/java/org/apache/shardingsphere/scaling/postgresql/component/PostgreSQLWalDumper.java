@@ -31,8 +31,11 @@ import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.StreamCommitEvent;
 import org.postgresql.jdbc.PgConnection;
 import org.postgresql.replication.PGReplicationStream;
 
@@ -74,8 +77,17 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
     private void dump() {
         try {
             Connection pgConnection = logicalReplication.createPgConnection((StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber());
+            checkSlotPlugin(pgConnection);
+            DecodingPlugin decodingPlugin;
+            PGReplicationStream stream;
+            if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(dumperConfig.getDecodingPlugin())) {
+                decodingPlugin = new PgOutputDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
+                stream = logicalReplication.createPgOutputReplicationStream(
+                        pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, dumperConfig.getPublicationName(), walPosition.getLogSequenceNumber());
+            } else {
+                decodingPlugin = new TestDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
+                stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber());
+            }
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
@@ -83,6 +95,11 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
                     continue;
                 }
                 AbstractWalEvent event = decodingPlugin.decode(message, stream.getLastReceiveLSN());
+                if (event instanceof StreamCommitEvent) {
+                    for (AbstractRowEvent each : ((StreamCommitEvent) event).getRowEvents()) {
+                        pushRecord(walEventConverter.convert(each));
+                    }
+                }
                 pushRecord(walEventConverter.convert(event));
             }
         } catch (final SQLException ex) {
@@ -90,6 +107,14 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
         }
     }
     
+    private void checkSlotPlugin(final Connection pgConnection) throws SQLException {
+        String slotPlugin = logicalReplication.getSlotPlugin(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME);
+        if (null != slotPlugin && !slotPlugin.equals(dumperConfig.getDecodingPlugin())) {
+            throw new ScalingTaskExecuteException(String.format("Replication slot `%s` is decoded by `%s`, but `%s` is configured.",
+                    PostgreSQLPositionInitializer.SLOT_NAME, slotPlugin, dumperConfig.getDecodingPlugin()));
+        }
+    }
+    
     private void pushRecord(final Record record) {
         try {
             channel.pushRecord(record);
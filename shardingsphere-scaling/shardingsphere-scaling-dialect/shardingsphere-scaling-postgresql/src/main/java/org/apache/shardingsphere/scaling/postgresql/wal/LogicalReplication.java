@@ -25,6 +25,8 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -73,4 +75,45 @@ public final class LogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream decoded by pgoutput.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection pgConnection, final String slotName, final String publicationName,
+                                                               final LogSequenceNumber startPosition) throws SQLException {
+        boolean streamingSupported = 14 <= pgConnection.getMetaData().getDatabaseMajorVersion();
+        return pgConnection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition(startPosition)
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", streamingSupported ? "2" : "1")
+                .withSlotOption("publication_names", publicationName)
+                .withSlotOption("streaming", streamingSupported ? "on" : "off")
+                .start();
+    }
+    
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @return output plugin name, or null if slot does not exist
+     * @throws SQLException sql exception
+     */
+    public String getSlotPlugin(final Connection pgConnection, final String slotName) throws SQLException {
+        try (PreparedStatement preparedStatement = pgConnection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name = ?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
 }
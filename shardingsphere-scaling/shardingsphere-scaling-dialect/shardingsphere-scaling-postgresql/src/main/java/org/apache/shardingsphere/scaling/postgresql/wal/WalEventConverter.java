@@ -27,10 +27,13 @@ import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.common.datasource.JdbcUri;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
+import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.StreamCommitEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastValue;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
@@ -67,7 +70,7 @@ public final class WalEventConverter {
             return handleUpdateRowsEvent((UpdateRowEvent) event);
         } else if (event instanceof DeleteRowEvent) {
             return handleDeleteRowsEvent((DeleteRowEvent) event);
-        } else if (event instanceof PlaceholderEvent) {
+        } else if (event instanceof PlaceholderEvent || event instanceof StreamCommitEvent) {
             return createPlaceholderRecord(event);
         }
         throw new UnsupportedOperationException("");
@@ -124,7 +127,17 @@ public final class WalEventConverter {
     
     private void putColumnsIntoDataRecord(final DataRecord dataRecord, final TableMetaData tableMetaData, final List<Object> values) {
         for (int i = 0; i < values.size(); i++) {
-            dataRecord.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), values.get(i), true, tableMetaData.isPrimaryKey(i)));
+            String columnName = tableMetaData.getColumnMetaData(i).getName();
+            boolean primaryKey = tableMetaData.isPrimaryKey(i);
+            dataRecord.addColumn(UnchangedToastValue.INSTANCE == values.get(i)
+                    ? createUnchangedToastColumn(dataRecord.getTableName(), columnName, primaryKey) : new Column(columnName, values.get(i), true, primaryKey));
         }
     }
+    
+    private Column createUnchangedToastColumn(final String tableName, final String columnName, final boolean primaryKey) {
+        if (primaryKey) {
+            throw new ScalingTaskExecuteException(String.format("Unchanged toast value of primary key column %s.%s is not replicated", tableName, columnName));
+        }
+        return new Column(columnName, null, false, false);
+    }
 }
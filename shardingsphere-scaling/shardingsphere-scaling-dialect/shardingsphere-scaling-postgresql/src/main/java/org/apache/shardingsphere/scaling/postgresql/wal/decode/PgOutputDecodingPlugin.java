@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.StreamCommitEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for the binary messages of pgoutput.
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    private static final byte NULL_VALUE = 'n';
+    
+    private static final byte UNCHANGED_TOAST_VALUE = 'u';
+    
+    private static final byte TEXT_VALUE = 't';
+    
+    private static final byte NEW_TUPLE = 'N';
+    
+    private static final byte OLD_TUPLE = 'O';
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final TimestampUtils timestampUtils;
+    
+    private final Map<Integer, RelationMetaData> relations = new HashMap<>();
+    
+    private final Map<Integer, List<StreamedRowEvent>> streamedTransactions = new HashMap<>();
+    
+    private int streamingXid;
+    
+    private boolean streaming;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case 'R':
+                readStreamedXid(data);
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+            case 'U':
+            case 'D':
+                result = readRowEvent(messageType, readStreamedXid(data), data, logSequenceNumber);
+                break;
+            case 'S':
+                streamingXid = data.getInt();
+                streaming = true;
+                result = new PlaceholderEvent();
+                break;
+            case 'E':
+                streaming = false;
+                result = new PlaceholderEvent();
+                break;
+            case 'c':
+                result = readStreamCommit(data, logSequenceNumber);
+                break;
+            case 'A':
+                readStreamAbort(data);
+                result = new PlaceholderEvent();
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private int readStreamedXid(final ByteBuffer data) {
+        return streaming ? data.getInt() : 0;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        short columnCount = data.getShort();
+        boolean[] keyColumns = new boolean[columnCount];
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 1 == (data.get() & 1);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new RelationMetaData(schemaName, tableName, keyColumns, columnTypes));
+    }
+    
+    private AbstractWalEvent readRowEvent(final byte messageType, final int subXid, final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        RelationMetaData relation = relations.get(data.getInt());
+        if (null == relation) {
+            throw new ScalingTaskExecuteException("Received row change before relation message");
+        }
+        AbstractRowEvent result;
+        switch (messageType) {
+            case 'I':
+                result = readWriteRowEvent(relation, data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(relation, data);
+                break;
+            default:
+                result = readDeleteRowEvent(relation, data);
+        }
+        result.setSchemaName(relation.getSchemaName());
+        result.setTableName(relation.getTableName());
+        result.setLogSequenceNumber(logSequenceNumber);
+        if (streaming) {
+            streamedTransactions.computeIfAbsent(streamingXid, key -> new LinkedList<>()).add(new StreamedRowEvent(subXid, result));
+            return new PlaceholderEvent();
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final RelationMetaData relation, final ByteBuffer data) {
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(relation, data, null));
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final RelationMetaData relation, final ByteBuffer data) {
+        byte tupleType = data.get();
+        List<Object> oldRow = null;
+        if (NEW_TUPLE != tupleType) {
+            List<Object> oldTuple = readTupleData(relation, data, null);
+            oldRow = OLD_TUPLE == tupleType ? oldTuple : null;
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(relation, data, oldRow));
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final RelationMetaData relation, final ByteBuffer data) {
+        data.get();
+        List<Object> oldRow = readTupleData(relation, data, null);
+        List<Object> primaryKeys = new LinkedList<>();
+        for (int i = 0; i < oldRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(oldRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return result;
+    }
+    
+    private List<Object> readTupleData(final RelationMetaData relation, final ByteBuffer data, final List<Object> oldRow) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte valueType = data.get();
+            if (NULL_VALUE == valueType) {
+                result.add(null);
+            } else if (UNCHANGED_TOAST_VALUE == valueType) {
+                result.add(null == oldRow ? UnchangedToastValue.INSTANCE : oldRow.get(i));
+            } else if (TEXT_VALUE == valueType) {
+                byte[] value = new byte[data.getInt()];
+                data.get(value);
+                result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumnTypes()[i]));
+            } else {
+                throw new ScalingTaskExecuteException(String.format("Unsupported tuple value type %s", (char) valueType));
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int columnType) {
+        switch (columnType) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case BYTEA_OID:
+                return decodeHex(value.substring(2));
+            case INT8_OID:
+                return Long.parseLong(value);
+            case INT2_OID:
+                return Short.parseShort(value);
+            case INT4_OID:
+                return Integer.parseInt(value);
+            case FLOAT4_OID:
+                return Float.parseFloat(value);
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                return new BigDecimal(value);
+            case DATE_OID:
+                return Date.valueOf(value);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return value;
+        }
+    }
+    
+    private AbstractWalEvent readStreamCommit(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        List<StreamedRowEvent> streamedRowEvents = streamedTransactions.remove(data.getInt());
+        List<AbstractRowEvent> rowEvents = new ArrayList<>(null == streamedRowEvents ? 0 : streamedRowEvents.size());
+        if (null != streamedRowEvents) {
+            for (StreamedRowEvent each : streamedRowEvents) {
+                each.getRowEvent().setLogSequenceNumber(logSequenceNumber);
+                rowEvents.add(each.getRowEvent());
+            }
+        }
+        StreamCommitEvent result = new StreamCommitEvent();
+        result.setRowEvents(rowEvents);
+        return result;
+    }
+    
+    private void readStreamAbort(final ByteBuffer data) {
+        int xid = data.getInt();
+        int subXid = data.getInt();
+        if (xid == subXid) {
+            streamedTransactions.remove(xid);
+            return;
+        }
+        List<StreamedRowEvent> streamedRowEvents = streamedTransactions.get(xid);
+        if (null != streamedRowEvents) {
+            streamedRowEvents.removeIf(each -> subXid == each.getSubXid());
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        byte[] result = new byte[length];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] decodeHex(final String hexString) {
+        int dataLength = hexString.length();
+        if (0 != (dataLength & 1)) {
+            throw new IllegalArgumentException(String.format("Illegal hex data %s", hexString));
+        }
+        byte[] result = new byte[dataLength >>> 1];
+        for (int i = 0; i < dataLength; i += 2) {
+            int firstHexChar = Character.digit(hexString.charAt(i), 16);
+            int secondHexChar = Character.digit(hexString.charAt(i + 1), 16);
+            if (-1 == firstHexChar || -1 == secondHexChar) {
+                throw new IllegalArgumentException(String.format("Illegal hex byte '%s' in index %d", hexString, i));
+            }
+            result[i >>> 1] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationMetaData {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final boolean[] keyColumns;
+        
+        private final int[] columnTypes;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class StreamedRowEvent {
+        
+        private final int subXid;
+        
+        private final AbstractRowEvent rowEvent;
+    }
+}
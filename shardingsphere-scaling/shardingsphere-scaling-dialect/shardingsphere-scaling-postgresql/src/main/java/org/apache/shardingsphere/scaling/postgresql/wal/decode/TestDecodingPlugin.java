@@ -42,6 +42,8 @@ import java.util.List;
 @AllArgsConstructor
 public final class TestDecodingPlugin implements DecodingPlugin {
     
+    public static final String PLUGIN_NAME = "test_decoding";
+    
     private final TimestampUtils timestampUtils;
     
     @Override
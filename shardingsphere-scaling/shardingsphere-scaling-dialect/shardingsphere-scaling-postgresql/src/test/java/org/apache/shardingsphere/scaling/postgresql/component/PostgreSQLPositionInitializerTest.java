@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.scaling.postgresql.component;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.scaling.core.common.exception.PrepareFailedException;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +38,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -45,6 +48,10 @@ public final class PostgreSQLPositionInitializerTest {
     
     private static final String POSTGRESQL_10_LSN = "0/1634520";
     
+    private static final String CREATE_SLOT_SQL = "SELECT * FROM pg_create_logical_replication_slot(?, ?)";
+    
+    private static final String PUBLICATION_SQL = "SELECT COUNT(1) FROM pg_publication WHERE pubname = ?";
+    
     @Mock
     private DataSource dataSource;
     
@@ -54,37 +61,80 @@ public final class PostgreSQLPositionInitializerTest {
     @Mock
     private DatabaseMetaData databaseMetaData;
     
+    @Mock
+    private PreparedStatement createSlotPreparedStatement;
+    
     @Before
     public void setUp() throws SQLException {
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.getMetaData()).thenReturn(databaseMetaData);
         PreparedStatement lsn96PreparedStatement = mockPostgreSQL96LSN();
-        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'test_decoding')")).thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement(CREATE_SLOT_SQL)).thenReturn(createSlotPreparedStatement);
         when(connection.prepareStatement("SELECT PG_CURRENT_XLOG_LOCATION()")).thenReturn(lsn96PreparedStatement);
         PreparedStatement lsn10PreparedStatement = mockPostgreSQL10LSN();
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(lsn10PreparedStatement);
     }
     
+    private DumperConfiguration mockDumperConfiguration(final String decodingPlugin) {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setDecodingPlugin(decodingPlugin);
+        result.setPublicationName("sharding_scaling");
+        return result;
+    }
+    
     @Test
     public void assertGetCurrentPositionOnPostgreSQL96() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
         when(databaseMetaData.getDatabaseMinorVersion()).thenReturn(6);
-        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("test_decoding"));
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_96_LSN)));
+        verify(createSlotPreparedStatement).setString(1, "sharding_scaling");
+        verify(createSlotPreparedStatement).setString(2, "test_decoding");
     }
     
     @Test
     public void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
-        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("test_decoding"));
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    public void assertCreatePgOutputSlotOnPostgreSQL10WithPublication() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPreparedStatement = mockPublicationCount(1);
+        when(connection.prepareStatement(PUBLICATION_SQL)).thenReturn(publicationPreparedStatement);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("pgoutput"));
+        assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(publicationPreparedStatement).setString(1, "sharding_scaling");
+        verify(createSlotPreparedStatement).setString(2, "pgoutput");
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test(expected = PrepareFailedException.class)
+    public void assertCreatePgOutputSlotWithoutPublication() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPreparedStatement = mockPublicationCount(0);
+        when(connection.prepareStatement(PUBLICATION_SQL)).thenReturn(publicationPreparedStatement);
+        new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("pgoutput"));
+    }
+    
+    @Test(expected = PrepareFailedException.class)
+    public void assertCreatePgOutputSlotOnPostgreSQL96() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
+        new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("pgoutput"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertCreateSlotWithUnsupportedDecodingPlugin() throws SQLException {
+        new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("wal2json"));
+    }
+    
     @Test(expected = RuntimeException.class)
     public void assertGetCurrentPositionThrowException() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
         when(databaseMetaData.getDatabaseMinorVersion()).thenReturn(4);
-        new PostgreSQLPositionInitializer().init(dataSource);
+        new PostgreSQLPositionInitializer().init(dataSource, mockDumperConfiguration("test_decoding"));
     }
     
     @SneakyThrows(SQLException.class)
@@ -106,4 +156,14 @@ public final class PostgreSQLPositionInitializerTest {
         when(resultSet.getString(1)).thenReturn(POSTGRESQL_10_LSN);
         return result;
     }
+    
+    @SneakyThrows(SQLException.class)
+    private PreparedStatement mockPublicationCount(final int count) {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt(1)).thenReturn(count);
+        return result;
+    }
 }
@@ -24,9 +24,11 @@ import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLScalingSQLBuilderTest {
     
@@ -36,6 +38,19 @@ public final class PostgreSQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Collections.emptyMap()).buildInsertSQL(mockDataRecord(), 3);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?),(?,?),(?,?) ON CONFLICT (id) DO NOTHING"));
+    }
+    
+    @Test
+    public void assertBuildEstimatedCountSQL() {
+        Optional<String> actual = new PostgreSQLScalingSQLBuilder(Collections.emptyMap()).buildEstimatedCountSQL();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT reltuples::BIGINT FROM pg_class WHERE oid=quote_ident(?)::regclass"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");
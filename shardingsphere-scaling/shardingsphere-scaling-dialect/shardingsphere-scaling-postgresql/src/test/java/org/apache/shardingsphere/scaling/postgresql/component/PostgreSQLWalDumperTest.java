@@ -76,6 +76,8 @@ public final class PostgreSQLWalDumperTest {
         jdbcDataSourceConfig = new StandardJDBCDataSourceConfiguration("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=PostgreSQL", "root", "root");
         DumperConfiguration result = new DumperConfiguration();
         result.setDataSourceConfig(jdbcDataSourceConfig);
+        result.setDecodingPlugin("test_decoding");
+        result.setPublicationName("sharding_scaling");
         return result;
     }
     
@@ -94,4 +96,12 @@ public final class PostgreSQLWalDumperTest {
         }
         assertThat(channel.fetchRecords(100, 0).size(), is(1));
     }
+    
+    @Test(expected = ScalingTaskExecuteException.class)
+    public void assertStartWithSlotDecodedByOtherPlugin() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        ReflectionUtil.setFieldValue(walDumper, "logicalReplication", logicalReplication);
+        when(logicalReplication.createPgConnection(jdbcDataSourceConfig)).thenReturn(pgConnection);
+        when(logicalReplication.getSlotPlugin(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME)).thenReturn("pgoutput");
+        walDumper.start();
+    }
 }
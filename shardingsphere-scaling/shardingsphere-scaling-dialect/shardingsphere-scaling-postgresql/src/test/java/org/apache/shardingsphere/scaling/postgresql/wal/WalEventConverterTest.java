@@ -28,6 +28,7 @@ import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCData
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastValue;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
 import org.junit.Before;
@@ -41,6 +42,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -87,6 +89,15 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(ScalingConstant.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithUnchangedToastValue() {
+        UpdateRowEvent updateRowEvent = (UpdateRowEvent) mockUpdateRowEvent();
+        updateRowEvent.setAfterRow(Arrays.asList(1, UnchangedToastValue.INSTANCE));
+        DataRecord actual = (DataRecord) walEventConverter.convert(updateRowEvent);
+        assertTrue(actual.getColumn(0).isUpdated());
+        assertFalse(actual.getColumn(1).isUpdated());
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.StreamCommitEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16384;
+    
+    private final LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+    }
+    
+    @Test
+    public void assertDecodeRelationMessage() {
+        assertThat(decodingPlugin.decode(relationMessage(false), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        decodingPlugin.decode(relationMessage(false), logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(64).put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTuple(data, "1", "1 2 3'");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("1 2 3'"));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueAndOldTuple() {
+        decodingPlugin.decode(relationMessage(false), logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(64).put((byte) 'U').putInt(RELATION_ID).put((byte) 'O');
+        putTuple(data, "1", "old");
+        data.put((byte) 'N').putShort((short) 2).put((byte) 't').putInt(1).put((byte) '1').put((byte) 'u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("old"));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueAndOldKeyTuple() {
+        decodingPlugin.decode(relationMessage(false), logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(64).put((byte) 'U').putInt(RELATION_ID).put((byte) 'K');
+        data.putShort((short) 2).put((byte) 't').putInt(1).put((byte) '1').put((byte) 'n');
+        data.put((byte) 'N').putShort((short) 2).put((byte) 't').putInt(1).put((byte) '2').put((byte) 'u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(2));
+        assertThat(actual.getAfterRow().get(1), is(UnchangedToastValue.INSTANCE));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueAndWithoutOldTuple() {
+        decodingPlugin.decode(relationMessage(false), logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(64).put((byte) 'U').putInt(RELATION_ID);
+        data.put((byte) 'N').putShort((short) 2).put((byte) 't').putInt(1).put((byte) '1').put((byte) 'u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is(UnchangedToastValue.INSTANCE));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        decodingPlugin.decode(relationMessage(false), logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(64).put((byte) 'D').putInt(RELATION_ID).put((byte) 'K');
+        data.putShort((short) 2).put((byte) 't').putInt(1).put((byte) '1').put((byte) 'n');
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getTableName(), is("test"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(1));
+    }
+    
+    @Test
+    public void assertDecodeStreamedTransaction() {
+        decodingPlugin.decode(flip(ByteBuffer.allocate(8).put((byte) 'S').putInt(600).put((byte) 1)), logSequenceNumber);
+        decodingPlugin.decode(relationMessage(true), logSequenceNumber);
+        assertThat(decodingPlugin.decode(insertMessage(600), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+        assertThat(decodingPlugin.decode(insertMessage(601), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+        decodingPlugin.decode(flip(ByteBuffer.allocate(8).put((byte) 'E')), logSequenceNumber);
+        decodingPlugin.decode(flip(ByteBuffer.allocate(16).put((byte) 'A').putInt(600).putInt(601)), logSequenceNumber);
+        LogSequenceNumber commitLogSequenceNumber = LogSequenceNumber.valueOf("0/14EFE00");
+        AbstractWalEvent actual = decodingPlugin.decode(flip(ByteBuffer.allocate(32).put((byte) 'c').putInt(600).put((byte) 0).putLong(0L).putLong(0L).putLong(0L)), commitLogSequenceNumber);
+        assertThat(actual, instanceOf(StreamCommitEvent.class));
+        StreamCommitEvent streamCommitEvent = (StreamCommitEvent) actual;
+        assertThat(streamCommitEvent.getRowEvents().size(), is(1));
+        assertThat(streamCommitEvent.getRowEvents().get(0).getLogSequenceNumber(), is(commitLogSequenceNumber));
+        assertThat(((WriteRowEvent) streamCommitEvent.getRowEvents().get(0)).getAfterRow().get(0), is(1));
+    }
+    
+    private ByteBuffer insertMessage(final int xid) {
+        ByteBuffer result = ByteBuffer.allocate(64).put((byte) 'I').putInt(xid).putInt(RELATION_ID).put((byte) 'N');
+        putTuple(result, "1", "a");
+        return flip(result);
+    }
+    
+    private ByteBuffer relationMessage(final boolean streaming) {
+        ByteBuffer result = ByteBuffer.allocate(128).put((byte) 'R');
+        if (streaming) {
+            result.putInt(600);
+        }
+        result.putInt(RELATION_ID);
+        putString(result, "public");
+        putString(result, "test");
+        result.put((byte) 'd').putShort((short) 2);
+        result.put((byte) 1);
+        putString(result, "id");
+        result.putInt(23).putInt(-1);
+        result.put((byte) 0);
+        putString(result, "data");
+        result.putInt(1043).putInt(-1);
+        return flip(result);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTuple(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            byte[] value = each.getBytes(StandardCharsets.UTF_8);
+            data.put((byte) 't').putInt(value.length).put(value);
+        }
+    }
+    
+    private ByteBuffer flip(final ByteBuffer data) {
+        data.flip();
+        return data;
+    }
+}
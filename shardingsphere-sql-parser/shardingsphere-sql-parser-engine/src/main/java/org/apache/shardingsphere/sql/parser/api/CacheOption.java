@@ -18,18 +18,55 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Cache option.
  */
-@RequiredArgsConstructor
 @Getter
 public final class CacheOption {
     
     private final int initialCapacity;
     
-    private final long maximumSize;
+    /**
+     * Maximum total weight of cached entries, each SQL weighs one unit per started kilobyte of its text.
+     */
+    private final long maximumWeight;
     
+    /**
+     * Concurrency level.
+     *
+     * @deprecated not used because caches are not segmented any more
+     */
+    @Deprecated
     private final int concurrencyLevel;
+    
+    public CacheOption(final int initialCapacity, final long maximumWeight) {
+        this(initialCapacity, maximumWeight, 0);
+    }
+    
+    /**
+     * Create cache option with concurrency level.
+     *
+     * @param initialCapacity initial capacity
+     * @param maximumWeight maximum total weight of cached entries
+     * @param concurrencyLevel concurrency level
+     * @deprecated use {@link #CacheOption(int, long)} instead
+     */
+    @Deprecated
+    public CacheOption(final int initialCapacity, final long maximumWeight, final int concurrencyLevel) {
+        this.initialCapacity = initialCapacity;
+        this.maximumWeight = maximumWeight;
+        this.concurrencyLevel = concurrencyLevel;
+    }
+    
+    /**
+     * Get maximum size.
+     *
+     * @return maximum total weight of cached entries
+     * @deprecated use {@link #getMaximumWeight()} instead, the size is weighed by SQL length
+     */
+    @Deprecated
+    public long getMaximumSize() {
+        return maximumWeight;
+    }
 }
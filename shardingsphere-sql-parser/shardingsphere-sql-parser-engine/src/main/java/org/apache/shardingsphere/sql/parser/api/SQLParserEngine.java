@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
@@ -32,7 +33,7 @@ public final class SQLParserEngine {
     private final LoadingCache<String, ParseTree> parseTreeCache;
     
     public SQLParserEngine(final String databaseType) {
-        this(databaseType, new CacheOption(128, 1024L, 4));
+        this(databaseType, new CacheOption(128, 1024L));
     }
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
@@ -48,6 +49,15 @@ public final class SQLParserEngine {
      * @return parse tree
      */
     public ParseTree parse(final String sql, final boolean useCache) {
-        return useCache ? parseTreeCache.getUnchecked(sql) : sqlParserExecutor.parse(sql);
+        return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Get parse tree cache stats.
+     *
+     * @return parse tree cache stats
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeCache.stats();
     }
 }
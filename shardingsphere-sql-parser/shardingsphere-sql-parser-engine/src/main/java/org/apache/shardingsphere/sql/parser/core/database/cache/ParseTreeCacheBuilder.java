@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -38,7 +38,7 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseTree> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel()).build(new ParseTreeCacheLoader(databaseType));
+        return Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).maximumWeight(option.getMaximumWeight()).weigher(new SQLCacheWeigher<ParseTree>())
+                .recordStats().build(new ParseTreeCacheLoader(databaseType));
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * SQL cache weigher.
+ * 
+ * <p>Each cached SQL weighs one unit per started kilobyte of SQL text, so short SQLs are counted by entry and huge SQLs such as batched inserts take their share.</p>
+ * 
+ * @param <V> type of cached value
+ */
+public final class SQLCacheWeigher<V> implements Weigher<String, V> {
+    
+    private static final int UNIT_LENGTH = 1024;
+    
+    @Override
+    public int weigh(final String sql, final V value) {
+        return 1 + (sql.length() - 1) / UNIT_LENGTH;
+    }
+}
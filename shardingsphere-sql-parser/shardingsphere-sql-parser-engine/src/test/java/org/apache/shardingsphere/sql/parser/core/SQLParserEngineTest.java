@@ -17,15 +17,12 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 import org.junit.Test;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -37,19 +34,10 @@ public final class SQLParserEngineTest {
     public void assertParse() {
         SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
         when(sqlParserExecutor.parse("")).thenReturn(mock(ParseTree.class));
-        LoadingCache<String, ParseTree> parseTreeCache = CacheBuilder.newBuilder().softValues()
-                .initialCapacity(128).maximumSize(1024).concurrencyLevel(4).build(new CacheLoader<String, ParseTree>() {
-                    
-                        @ParametersAreNonnullByDefault
-                        @Override
-                        public ParseTree load(final String sql) {
-                            return sqlParserExecutor.parse(sql);
-                        }
-                    }
-                );
-        parseTreeCache.getUnchecked("");
+        LoadingCache<String, ParseTree> parseTreeCache = Caffeine.newBuilder().initialCapacity(128).maximumSize(1024).build(sqlParserExecutor::parse);
+        parseTreeCache.get("");
         verify(sqlParserExecutor, times(1)).parse("");
-        parseTreeCache.getUnchecked("");
+        parseTreeCache.get("");
         verify(sqlParserExecutor, times(1)).parse("");
         sqlParserExecutor.parse("");
         verify(sqlParserExecutor, times(2)).parse("");